@@ -24,6 +24,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,6 +59,26 @@ public class GCCToolChain extends PlatformObject implements IToolChain {
 
 	public static final String TYPE_ID = "org.eclipse.cdt.build.gcc"; //$NON-NLS-1$
 
+	/**
+	 * Scanner info probed in this session, shared by all toolchains and build
+	 * configurations. The key is the probe command line with the temporary
+	 * source file replaced by its extension, and the environment. The probe
+	 * only asks the compiler for its built-ins, which do not depend on the
+	 * build directory. Results with include paths relative to the build
+	 * directory are not shared.
+	 */
+	private static final Map<List<String>, ProbeResult> probeCache = new ConcurrentHashMap<>();
+
+	private static class ProbeResult {
+		private final String compilerStamp;
+		private final IExtendedScannerInfo info;
+
+		ProbeResult(String compilerStamp, IExtendedScannerInfo info) {
+			this.compilerStamp = compilerStamp;
+			this.info = info;
+		}
+	}
+
 	private final IToolChainProvider provider;
 	private final String id;
 	private final Path path;
@@ -462,11 +485,27 @@ public class GCCToolChain extends PlatformObject implements IToolChain {
 		ProcessBuilder processBuilder = new ProcessBuilder(commandLine).directory(buildDirectory.toFile());
 		CCorePlugin.getDefault().getBuildEnvironmentManager().setEnvironment(processBuilder.environment(), buildConfig,
 				true);
+
+		// Reuse the result of the same probe, unless the compiler has changed since
+		List<String> probeKey = getProbeKey(commandLine, tmpFile, processBuilder.environment());
+		String compilerStamp = getCompilerStamp(commandLine.get(0));
+		if (compilerStamp != null) {
+			ProbeResult result = probeCache.get(probeKey);
+			if (result != null && result.compilerStamp.equals(compilerStamp)) {
+				if (tmpFile != null) {
+					Files.delete(tmpFile);
+				}
+				return new ExtendedScannerInfo(new HashMap<>(result.info.getDefinedSymbols()),
+						result.info.getIncludePaths().clone());
+			}
+		}
+
 		Process process = processBuilder.start();
 
 		// Scan for the scanner info
 		Map<String, String> symbols = new HashMap<>();
 		List<String> includePath = new ArrayList<>();
+		AtomicBoolean dependsOnBuildDirectory = new AtomicBoolean();
 		Pattern definePattern = Pattern.compile("#define ([^\\s]*)\\s(.*)"); //$NON-NLS-1$
 
 		// First the include path off the error stream
@@ -478,11 +517,13 @@ public class GCCToolChain extends PlatformObject implements IToolChain {
 						String dir = line.trim();
 						if (dir.equals(".")) { //$NON-NLS-1$
 							includePath.add(buildDirectory.toString());
+							dependsOnBuildDirectory.set(true);
 						} else {
 							try {
 								Path dirPath = Paths.get(dir);
 								if (!dirPath.isAbsolute()) {
 									dirPath = buildDirectory.resolve(dirPath);
+									dependsOnBuildDirectory.set(true);
 								}
 								if (Files.isDirectory(dirPath)) {
 									includePath.add(dirPath.toString());
@@ -528,7 +569,52 @@ public class GCCToolChain extends PlatformObject implements IToolChain {
 		}
 		Files.delete(tmpFile);
 
-		return new ExtendedScannerInfo(symbols, includePath.toArray(new String[includePath.size()]));
+		IExtendedScannerInfo info = new ExtendedScannerInfo(symbols,
+				includePath.toArray(new String[includePath.size()]));
+		// Relative include paths are resolved against the build directory,
+		// which is not part of the key
+		if (compilerStamp != null && !dependsOnBuildDirectory.get()) {
+			probeCache.put(probeKey, new ProbeResult(compilerStamp, new ExtendedScannerInfo(
+					new HashMap<>(symbols), includePath.toArray(new String[includePath.size()]))));
+		}
+		return info;
+	}
+
+	private static List<String> getProbeKey(List<String> commandLine, Path tmpFile, Map<String, String> environment) {
+		List<String> key = new ArrayList<>(commandLine.size() + environment.size());
+		String tmpFileName = tmpFile != null ? tmpFile.toString() : null;
+		for (String arg : commandLine) {
+			if (arg.equals(tmpFileName)) {
+				// The name is random, only its extension matters
+				String name = tmpFile.getFileName().toString();
+				arg = name.substring(name.lastIndexOf('.'));
+			}
+			key.add(arg);
+		}
+		for (Entry<String, String> var : new TreeMap<>(environment).entrySet()) {
+			// Variables specific to the project do not change the output
+			if (!var.getKey().equals("CWD") && !var.getKey().equals("PWD")) { //$NON-NLS-1$ //$NON-NLS-2$
+				key.add(var.getKey() + '=' + var.getValue());
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * Returns a stamp of the compiler program, used to invalidate the probed
+	 * scanner info when the compiler is changed, or <code>null</code> if it is
+	 * not found.
+	 */
+	private static String getCompilerStamp(String command) {
+		try {
+			File file = new File(command).getCanonicalFile();
+			if (!file.isFile()) {
+				return null;
+			}
+			return file.getPath() + ':' + file.lastModified() + ':' + file.length();
+		} catch (IOException e) {
+			return null;
+		}
 	}
 
 	@Override
@@ -11,13 +11,12 @@
 package org.eclipse.cdt.cmake.core.internal;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -40,8 +39,6 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 
-import com.google.gson.Gson;
-
 public class CMakeBuildConfiguration extends CBuildConfiguration {
 
 	public static final String CMAKE_GENERATOR = "cmake.generator"; //$NON-NLS-1$
@@ -50,8 +47,13 @@ public class CMakeBuildConfiguration extends CBuildConfiguration {
 	public static final String BUILD_COMMAND = "cmake.command.build"; //$NON-NLS-1$
 	public static final String CLEAN_COMMAND = "cmake.command.clean"; //$NON-NLS-1$
 
+	private static final String NEED_REFRESH = "cdt.needScannerRefresh"; //$NON-NLS-1$
+
 	private ICMakeToolChainFile toolChainFile;
 
+	/** Size and time stamp of the compile_commands.json file processed last */
+	private String compileCommandsStamp;
+
 	public CMakeBuildConfiguration(IBuildConfiguration config, String name) throws CoreException {
 		super(config, name);
 
@@ -293,15 +295,19 @@ public class CMakeBuildConfiguration extends CBuildConfiguration {
 		if (Files.exists(commandsFile)) {
 			List<Job> jobsList = new ArrayList<>();
 			monitor.setTaskName(Messages.CMakeBuildConfiguration_ProcCompJson);
-			try (FileReader reader = new FileReader(commandsFile.toFile())) {
-				Gson gson = new Gson();
-				CompileCommand[] commands = gson.fromJson(reader, CompileCommand[].class);
-				Map<String, CompileCommand> dedupedCmds = new HashMap<>();
-				for (CompileCommand command : commands) {
-					dedupedCmds.put(command.getFile(), command);
+			try {
+				// Nothing to do if the file has not changed since it was last
+				// processed, unless the toolchain wants the scanner info refreshed
+				BasicFileAttributes attrs = Files.readAttributes(commandsFile, BasicFileAttributes.class);
+				String stamp = attrs.size() + ":" + attrs.lastModifiedTime().toMillis(); //$NON-NLS-1$
+				if (stamp.equals(compileCommandsStamp)
+						&& !"true".equals(getToolChain().getProperty(NEED_REFRESH))) { //$NON-NLS-1$
+					return;
 				}
-				for (CompileCommand command : dedupedCmds.values()) {
-					processLine(command.getCommand(), jobsList);
+
+				Map<String, String> dedupedCmds = readCompileCommands(commandsFile);
+				for (String command : dedupedCmds.values()) {
+					processLine(command, jobsList);
 				}
 				for (Job j : jobsList) {
 					try {
@@ -311,6 +317,7 @@ public class CMakeBuildConfiguration extends CBuildConfiguration {
 					}
 				}
 				shutdown();
+				compileCommandsStamp = stamp;
 			} catch (IOException e) {
 				throw new CoreException(Activator.errorStatus(
 						String.format(Messages.CMakeBuildConfiguration_ProcCompCmds, project.getName()), e));
@@ -15,8 +15,10 @@
 package org.eclipse.cdt.core.autotools.core;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -65,8 +67,19 @@ public class AutotoolsBuildConfiguration extends CBuildConfiguration {
 
 		IProject project = getProject();
 
-		execute(Arrays.asList(new String[] { "autoreconf", "--install" }), project.getLocation(), console, monitor); //$NON-NLS-1$ //$NON-NLS-2$
-		executeRemote(Arrays.asList(new String[] { "./configure" }), project.getLocation(), console, monitor); //$NON-NLS-1$
+		// Only regenerate and rerun configure when their inputs have changed
+		// since they were last run. Once configured, the generated makefiles
+		// take care of rerunning config.status themselves.
+		Path sourceDir = Paths.get(project.getLocation().toString());
+		Path configure = sourceDir.resolve("configure"); //$NON-NLS-1$
+		if (!isNewer(configure, sourceDir.resolve("configure.ac"), sourceDir.resolve("configure.in"))) { //$NON-NLS-1$ //$NON-NLS-2$
+			execute(Arrays.asList(new String[] { "autoreconf", "--install" }), project.getLocation(), console, monitor); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		Path buildDir = getBuildDirectory();
+		if (!Files.exists(buildDir.resolve("Makefile")) //$NON-NLS-1$
+				|| !isNewer(buildDir.resolve("config.status"), configure)) { //$NON-NLS-1$
+			executeRemote(Arrays.asList(new String[] { "./configure" }), project.getLocation(), console, monitor); //$NON-NLS-1$
+		}
 		executeRemote(Arrays.asList(new String[] { "make" }), project.getLocation(), console, monitor); //$NON-NLS-1$
 
 		return new IProject[] { project };
@@ -77,6 +90,27 @@ public class AutotoolsBuildConfiguration extends CBuildConfiguration {
 		executeRemote(Arrays.asList(new String[] { "make", "clean" }), getProject().getLocation(), console, monitor); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Returns whether the given file exists and is not older than any of the
+	 * given inputs that exist.
+	 */
+	private static boolean isNewer(Path file, Path... inputs) {
+		try {
+			if (!Files.exists(file)) {
+				return false;
+			}
+			FileTime time = Files.getLastModifiedTime(file);
+			for (Path input : inputs) {
+				if (Files.exists(input) && Files.getLastModifiedTime(input).compareTo(time) > 0) {
+					return false;
+				}
+			}
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	protected void execute(List<String> command, IPath dir, IConsole console, IProgressMonitor monitor)
 			throws CoreException {
 		String cmd = command.get(0);
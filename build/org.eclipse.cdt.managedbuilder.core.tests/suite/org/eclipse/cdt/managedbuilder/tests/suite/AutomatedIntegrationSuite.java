@@ -20,6 +20,7 @@ import org.eclipse.cdt.build.core.scannerconfig.tests.GCCSpecsConsoleParserTest;
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.IPDOMManager;
 import org.eclipse.cdt.managedbuilder.core.regressions.RegressionTests;
+import org.eclipse.cdt.managedbuilder.core.tests.BuildActionCacheTests;
 import org.eclipse.cdt.managedbuilder.core.tests.BuildDescriptionModelTests;
 import org.eclipse.cdt.managedbuilder.core.tests.BuildSystem40Tests;
 import org.eclipse.cdt.managedbuilder.core.tests.ManagedBuildCoreTests;
@@ -92,6 +93,7 @@ public class AutomatedIntegrationSuite {
 		suite.addTest(OptionCategoryEnablementTests.suite());
 		suite.addTest(ManagedBuildDependencyCalculatorTests.suite());
 		suite.addTest(BuildDescriptionModelTests.suite());
+		suite.addTest(BuildActionCacheTests.suite());
 		suite.addTest(PathConverterTest.suite());
 
 		// managedbuilder.templateengine.tests
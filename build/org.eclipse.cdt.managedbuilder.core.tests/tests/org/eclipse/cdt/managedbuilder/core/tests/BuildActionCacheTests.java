@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.managedbuilder.buildmodel.BuildDescriptionManager;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuildManager;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildActionCache;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildCommand;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStateManager;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStep;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.ConfigurationBuildState;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.ProjectBuildState;
+import org.eclipse.cdt.managedbuilder.testplugin.ManagedBuildTestHelper;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the cache of the actions performed by the internal builder, with the
+ * build steps of a managed project.
+ */
+public class BuildActionCacheTests extends TestCase {
+	private static final String PREFIX = "BuildActionCacheTests_";
+
+	private IProject fProject;
+	private IConfiguration fCfg;
+	private IFile fSource;
+	private IFile fHeader;
+	private IFile fOther;
+
+	public static Test suite() {
+		return new TestSuite(BuildActionCacheTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		fProject = ManagedBuildTestHelper.createProject(PREFIX + getName(), "cdt.managedbuild.target.gnu30.exe");
+		assertNotNull(fProject);
+		fSource = ManagedBuildTestHelper.createFile(fProject, "a.c", "\n#include \"a.h\"\nint a = A;\n");
+		fHeader = ManagedBuildTestHelper.createFile(fProject, "a.h", "\n#define A 1\n");
+		fOther = ManagedBuildTestHelper.createFile(fProject, "b.c", "\nint b;\n");
+
+		// The header dependencies of the build description are computed from the index
+		ICProject cProject = CoreModel.getDefault().create(fProject);
+		CCorePlugin.getIndexManager().setIndexerId(cProject, IPDOMManager.ID_FAST_INDEXER);
+		CCorePlugin.getIndexManager().reindex(cProject);
+		CCorePlugin.getIndexManager().joinIndexer(-1, new NullProgressMonitor());
+
+		fCfg = ManagedBuildManager.getBuildInfo(fProject).getManagedProject().getConfigurations()[0];
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ManagedBuildTestHelper.removeProject(fProject.getName());
+	}
+
+	private IBuildDescription createBuildDescription() throws Exception {
+		return BuildDescriptionManager.createBuildDescription(fCfg, null,
+				BuildDescriptionManager.REBUILD | BuildDescriptionManager.REMOVED | BuildDescriptionManager.DEPS);
+	}
+
+	/**
+	 * Returns the step compiling the given source
+	 */
+	private static IBuildStep getCompileStep(IBuildDescription des, IFile source) {
+		IBuildResource rc = des.getBuildResource(source);
+		assertNotNull(rc);
+		assertEquals(1, rc.getDependentIOTypes().length);
+		return rc.getDependentIOTypes()[0].getStep();
+	}
+
+	private static IBuildCommand[] getCommands(IBuildStep step) {
+		IBuildCommand[] cmds = step.getCommands(step.getBuildDescription().getDefaultBuildDirLocation(), null, null,
+				true);
+		assertTrue(cmds.length > 0);
+		return cmds;
+	}
+
+	private static void touch(IFile file) {
+		File f = file.getLocation().toFile();
+		assertTrue(f.setLastModified(f.lastModified() + 10000));
+	}
+
+	/**
+	 * Records the step in the given cache as a successful build would, after
+	 * creating its outputs
+	 */
+	private static String built(BuildActionCache cache, IBuildStep step) throws Exception {
+		for (IBuildResource rc : step.getOutputResources()) {
+			File file = rc.getLocation().toFile();
+			file.getParentFile().mkdirs();
+			Files.write(file.toPath(), "object".getBytes(StandardCharsets.UTF_8));
+		}
+		String key = cache.computeActionKey(step, getCommands(step));
+		assertNotNull(key);
+		cache.setUpToDate(step, key);
+		return key;
+	}
+
+	private static Properties stored(BuildActionCache cache) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		cache.store(out);
+		Properties props = new Properties();
+		props.load(new ByteArrayInputStream(out.toByteArray()));
+		return props;
+	}
+
+	public void testTouchedInputIsUpToDate() throws Exception {
+		IBuildStep step = getCompileStep(createBuildDescription(), fSource);
+		BuildActionCache cache = new BuildActionCache();
+		built(cache, step);
+
+		touch(fSource);
+		touch(fHeader);
+		step = getCompileStep(createBuildDescription(), fSource);
+		assertTrue(cache.isUpToDate(step, cache.computeActionKey(step, getCommands(step))));
+	}
+
+	public void testEditedHeaderIsRebuilt() throws Exception {
+		IBuildStep step = getCompileStep(createBuildDescription(), fSource);
+		IBuildResource header = step.getBuildDescription().getBuildResource(fHeader);
+		assertTrue("header is not an input of the step", Arrays.asList(step.getInputResources()).contains(header));
+		BuildActionCache cache = new BuildActionCache();
+		built(cache, step);
+
+		Files.write(fHeader.getLocation().toFile().toPath(), "\n#define A 2\n".getBytes(StandardCharsets.UTF_8));
+		touch(fHeader);
+		step = getCompileStep(createBuildDescription(), fSource);
+		assertFalse(cache.isUpToDate(step, cache.computeActionKey(step, getCommands(step))));
+	}
+
+	public void testChangedCommandIsRebuilt() throws Exception {
+		IBuildStep step = getCompileStep(createBuildDescription(), fSource);
+		BuildActionCache cache = new BuildActionCache();
+		built(cache, step);
+
+		IBuildCommand cmd = getCommands(step)[0];
+		String[] args = Arrays.copyOf(cmd.getArgs(), cmd.getArgs().length + 1);
+		args[args.length - 1] = "-O2";
+		IBuildCommand[] cmds = {
+				new BuildCommand(cmd.getCommand(), args, cmd.getEnvironment(), cmd.getCWD(), (BuildStep) step) };
+		assertFalse(cache.isUpToDate(step, cache.computeActionKey(step, cmds)));
+	}
+
+	public void testFailedStepIsForgotten() throws Exception {
+		IBuildStep step = getCompileStep(createBuildDescription(), fSource);
+		BuildActionCache cache = new BuildActionCache();
+		String key = built(cache, step);
+		assertTrue(cache.isUpToDate(step, key));
+
+		// As done by the step builder when building the step fails
+		cache.remove(step);
+		assertTrue(cache.isDirty());
+		assertFalse(cache.isUpToDate(step, key));
+	}
+
+	public void testRemovedInputIsDropped() throws Exception {
+		IBuildDescription des = createBuildDescription();
+		BuildActionCache cache = new BuildActionCache();
+		built(cache, getCompileStep(des, fSource));
+		built(cache, getCompileStep(des, fOther));
+		String otherKey = "input:" + fOther.getLocation().toOSString();
+		assertTrue(stored(cache).containsKey(otherKey));
+
+		fOther.delete(true, null);
+		des = createBuildDescription();
+		cache.retainInputs(des.getResources());
+		assertTrue(cache.isDirty());
+		Properties props = stored(cache);
+		assertFalse(props.containsKey(otherKey));
+		assertTrue(props.containsKey("input:" + fSource.getLocation().toOSString()));
+		assertTrue(props.containsKey("input:" + fHeader.getLocation().toOSString()));
+	}
+
+	public void testActionsSurviveReload() throws Exception {
+		IBuildStep step = getCompileStep(createBuildDescription(), fSource);
+		ProjectBuildState pbs = new ProjectBuildState(fProject);
+		ConfigurationBuildState cbs = (ConfigurationBuildState) pbs.getConfigurationBuildState(fCfg.getId(), true);
+		cbs.setState(0);
+		built(cbs.getActionCache(), step);
+		BuildStateManager.getInstance().setProjectBuildState(fProject, pbs);
+
+		pbs = new ProjectBuildState(fProject);
+		cbs = (ConfigurationBuildState) pbs.getConfigurationBuildState(fCfg.getId(), false);
+		assertNotNull(cbs);
+		BuildActionCache cache = cbs.getActionCache();
+		assertFalse(cache.isEmpty());
+		touch(fSource);
+		assertTrue(cache.isUpToDate(step, cache.computeActionKey(step, getCommands(step))));
+	}
+}
@@ -99,6 +99,7 @@ public class ManagedProject30MakefileTests extends TestCase {
 		suite.addTest(new ManagedProject30MakefileTests("CDTFortranTest2"));
 		suite.addTest(new ManagedProject30MakefileTests("TestATO"));
 		suite.addTest(new ManagedProject30MakefileTests("testMacroSupportInBuildDefinitions"));
+		suite.addTest(new ManagedProject30MakefileTests("testUnchangedMakefilesNotRewritten"));
 		// Turning off since this is specific to a gcc version
 		// suite.addTest(new ManagedProject30MakefileTests("testSpaces"));
 		if (File.separatorChar == '\\') {
@@ -293,6 +294,36 @@ public class ManagedProject30MakefileTests extends TestCase {
 		buildProjects(projects, makefiles);
 	}
 
+	/**
+	 * Tests that regenerating the makefiles of a project does not touch the
+	 * makefiles whose contents do not change.
+	 */
+	public void testUnchangedMakefilesNotRewritten() throws CoreException {
+		IPath[] makefiles = { Path.fromOSString("makefile"), Path.fromOSString("objects.mk"),
+				Path.fromOSString("sources.mk"), Path.fromOSString("subdir.mk") };
+		IProject[] projects = createProjects("singleFileExe", null, null, true);
+		IProject project = projects[0];
+		IManagedBuildInfo info = ManagedBuildManager.getBuildInfo(project);
+		IPath buildDir = Path.fromOSString(info.getDefaultConfiguration().getName());
+
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		long[] stamps = new long[makefiles.length];
+		for (int i = 0; i < makefiles.length; i++) {
+			IFile makefile = project.getFile(buildDir.append(makefiles[i]));
+			assertTrue(makefile.exists());
+			stamps[i] = makefile.getModificationStamp();
+		}
+
+		info.setRebuildState(true);
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		for (int i = 0; i < makefiles.length; i++) {
+			IFile makefile = project.getFile(buildDir.append(makefiles[i]));
+			assertEquals(makefiles[i].toString(), stamps[i], makefile.getModificationStamp());
+		}
+
+		ManagedBuildTestHelper.removeProject(project.getName());
+	}
+
 	/* (non-Javadoc)
 	 * tests 3.0 style tool integration for a two file SO
 	 */
@@ -241,6 +241,26 @@ public class BuiltinSpecsDetectorTest extends BaseTestCase {
 		}
 	}
 
+	/**
+	 * Mock built-in specs detector which tracks how many times it ran the command.
+	 */
+	private class MockConsoleBuiltinSpecsDetectorWithRunCount extends MockConsoleBuiltinSpecsDetector {
+		private int runCount = 0;
+
+		@Override
+		protected int runProgramForLanguage(String languageId, String command, String[] envp, URI workingDirectoryURI,
+				OutputStream consoleOut, OutputStream consoleErr, IProgressMonitor monitor)
+				throws CoreException, IOException {
+			runCount++;
+			return super.runProgramForLanguage(languageId, command, envp, workingDirectoryURI, consoleOut, consoleErr,
+					monitor);
+		}
+
+		public int getRunCount() {
+			return runCount;
+		}
+	}
+
 	@Override
 	protected void setUp() throws Exception {
 		super.setUp();
@@ -950,6 +970,99 @@ public class BuiltinSpecsDetectorTest extends BaseTestCase {
 		provider.unregisterListener();
 	}
 
+	/**
+	 * Test that providers running the same command share the results until the compiler changes.
+	 */
+	public void testAbstractBuiltinSpecsDetector_SharedProbeResults() throws Exception {
+		// Create a folder for this test
+		IPath folder = ResourceHelper.createWorkspaceFolder(getName());
+
+		// Create test "compiler"
+		java.io.File compiler = new java.io.File(folder.append("compiler").toOSString());
+		compiler.createNewFile();
+		assertTrue(compiler.exists());
+		String command = '"' + compiler.getAbsolutePath() + '"' + " arg1";
+		List<String> languageScope = new ArrayList<String>();
+		languageScope.add(LANGUAGE_ID);
+		ICLanguageSettingEntry expected = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		// Run the first provider
+		MockConsoleBuiltinSpecsDetectorWithRunCount provider1 = new MockConsoleBuiltinSpecsDetectorWithRunCount();
+		provider1.setCommand(command);
+		provider1.setLanguageScope(languageScope);
+		provider1.startup(null, null);
+		provider1.runForEachLanguage(null);
+		provider1.shutdown();
+		assertEquals(1, provider1.getRunCount());
+		assertEquals(expected, provider1.getSettingEntries(null, null, LANGUAGE_ID).get(0));
+
+		// The second provider gets the same entries without running the command
+		MockConsoleBuiltinSpecsDetectorWithRunCount provider2 = new MockConsoleBuiltinSpecsDetectorWithRunCount();
+		provider2.setCommand(command);
+		provider2.setLanguageScope(languageScope);
+		provider2.startup(null, null);
+		provider2.runForEachLanguage(null);
+		provider2.shutdown();
+		assertEquals(0, provider2.getRunCount());
+		assertEquals(expected, provider2.getSettingEntries(null, null, LANGUAGE_ID).get(0));
+
+		// "Upgrade" the "compiler", less than 1 sec might be truncated
+		compiler.setLastModified(compiler.lastModified() + 1000);
+
+		// The command runs again after upgrade
+		MockConsoleBuiltinSpecsDetectorWithRunCount provider3 = new MockConsoleBuiltinSpecsDetectorWithRunCount();
+		provider3.setCommand(command);
+		provider3.setLanguageScope(languageScope);
+		provider3.startup(null, null);
+		provider3.runForEachLanguage(null);
+		provider3.shutdown();
+		assertEquals(1, provider3.getRunCount());
+		assertEquals(expected, provider3.getSettingEntries(null, null, LANGUAGE_ID).get(0));
+	}
+
+	/**
+	 * Test that providers of different projects running the same command share the results.
+	 */
+	public void testAbstractBuiltinSpecsDetector_SharedProbeResultsProjects() throws Exception {
+		// Create model projects and accompanied descriptions
+		IProject project1 = ResourceHelper.createCDTProjectWithConfig(getName() + "1");
+		IProject project2 = ResourceHelper.createCDTProjectWithConfig(getName() + "2");
+		ICConfigurationDescription cfgDescription1 = getConfigurationDescriptions(project1)[0];
+		ICConfigurationDescription cfgDescription2 = getConfigurationDescriptions(project2)[0];
+
+		// Create test "compiler"
+		IPath folder = ResourceHelper.createWorkspaceFolder(getName());
+		java.io.File compiler = new java.io.File(folder.append("compiler").toOSString());
+		compiler.createNewFile();
+		assertTrue(compiler.exists());
+		String command = '"' + compiler.getAbsolutePath() + '"' + " arg1";
+		List<String> languageScope = new ArrayList<String>();
+		languageScope.add(LANGUAGE_ID);
+		ICLanguageSettingEntry expected = new CMacroEntry("MACRO", "VALUE",
+				ICSettingEntry.BUILTIN | ICSettingEntry.READONLY);
+
+		// Run the provider of the first project
+		MockConsoleBuiltinSpecsDetectorWithRunCount provider1 = new MockConsoleBuiltinSpecsDetectorWithRunCount();
+		provider1.setCommand(command);
+		provider1.setLanguageScope(languageScope);
+		provider1.startup(cfgDescription1, null);
+		provider1.runForEachLanguage(null);
+		provider1.shutdown();
+		assertEquals(1, provider1.getRunCount());
+		assertEquals(expected, provider1.getSettingEntries(cfgDescription1, null, LANGUAGE_ID).get(0));
+
+		// The provider of the second project gets the same entries without running the command
+		MockConsoleBuiltinSpecsDetectorWithRunCount provider2 = new MockConsoleBuiltinSpecsDetectorWithRunCount();
+		provider2.setCommand(command);
+		provider2.setLanguageScope(languageScope);
+		provider2.startup(cfgDescription2, null);
+		provider2.runForEachLanguage(null);
+		provider2.shutdown();
+		assertEquals(0, provider2.getRunCount());
+		assertEquals(expected, provider2.getSettingEntries(cfgDescription2, null, LANGUAGE_ID).get(0));
+	}
+
 	/**
 	 * Test running a provider after changing the compiler command.
 	 */
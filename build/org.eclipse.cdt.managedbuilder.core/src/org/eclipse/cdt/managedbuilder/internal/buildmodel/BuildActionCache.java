@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.internal.buildmodel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Remembers, for each build step, a digest of the contents of its inputs and
+ * of its command lines and environment at the time the step was last built
+ * successfully, together with the time stamps of the outputs it produced.
+ *
+ * This lets the internal builder skip a step that the time stamp based
+ * rebuild state reports as out of date (e.g. because an input was touched),
+ * when neither its inputs nor its commands have actually changed and its
+ * outputs are still the ones it built.
+ *
+ * The digests of the input contents are remembered as well, together with
+ * the time stamp and size of the input they were computed from, so that
+ * only the inputs which have been modified since are read again. The
+ * digests of the inputs which are no longer part of the build are dropped
+ * after each build, see {@link #retainInputs(IBuildResource[])}.
+ *
+ * NOTE: This class is subject to change and discuss,
+ * and is currently available in experimental mode only
+ */
+public class BuildActionCache {
+	private static final String DIGEST_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+	private static final char SEPARATOR = ' ';
+	private static final int BUFFER_SIZE = 8192;
+	/** Prefix of the input digest keys, which can not clash with an output location */
+	private static final String INPUT_KEY_PREFIX = "input:"; //$NON-NLS-1$
+
+	private Properties fStepToActionProps;
+	private boolean fIsDirty;
+
+	public BuildActionCache() {
+		fStepToActionProps = new Properties();
+	}
+
+	public void load(InputStream iStream) throws IOException {
+		fStepToActionProps.load(iStream);
+		fIsDirty = false;
+	}
+
+	public void store(OutputStream oStream) throws IOException {
+		fStepToActionProps.store(oStream, ""); //$NON-NLS-1$
+		fIsDirty = false;
+	}
+
+	public boolean isDirty() {
+		return fIsDirty;
+	}
+
+	public boolean isEmpty() {
+		return fStepToActionProps.isEmpty();
+	}
+
+	/**
+	 * Computes the digest of the given step's inputs and commands.
+	 *
+	 * @return the digest, or <code>null</code> if the step can not be cached,
+	 *         e.g. because it has no outputs or one of its inputs can not be read
+	 */
+	public String computeActionKey(IBuildStep step, IBuildCommand[] cmds) {
+		if (getStepKey(step) == null || cmds == null || cmds.length == 0)
+			return null;
+
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+
+		for (IBuildCommand cmd : cmds) {
+			update(digest, cmd.getCommand().toString());
+			for (String arg : cmd.getArgs()) {
+				update(digest, arg);
+			}
+			Map<String, String> env = cmd.getEnvironment();
+			if (env != null) {
+				for (Map.Entry<String, String> entry : new TreeMap<>(env).entrySet()) {
+					update(digest, entry.getKey());
+					update(digest, entry.getValue());
+				}
+			}
+			update(digest, cmd.getCWD() != null ? cmd.getCWD().toString() : ""); //$NON-NLS-1$
+		}
+
+		String[] locations = getLocations(step.getInputResources());
+		if (locations == null)
+			return null;
+		Arrays.sort(locations);
+		for (String location : locations) {
+			String inputDigest = getInputDigest(location);
+			if (inputDigest == null)
+				return null;
+			update(digest, location);
+			update(digest, inputDigest);
+		}
+
+		return toHexString(digest.digest());
+	}
+
+	/**
+	 * Returns the digest of the contents of the given input. The input is
+	 * only read if its time stamp or size differ from the ones its
+	 * remembered digest was computed from.
+	 *
+	 * @return the digest, or <code>null</code> if the input can not be read
+	 */
+	private String getInputDigest(String location) {
+		File file = new File(location);
+		long modified = file.lastModified();
+		if (modified == 0)
+			return null;
+		String stamp = Long.toString(modified) + SEPARATOR + file.length() + SEPARATOR;
+
+		String inputKey = INPUT_KEY_PREFIX + location;
+		String value = fStepToActionProps.getProperty(inputKey);
+		if (value != null && value.startsWith(stamp))
+			return value.substring(stamp.length());
+
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream in = new FileInputStream(file)) {
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				digest.update(buffer, 0, n);
+			}
+		} catch (IOException e) {
+			return null;
+		}
+
+		String inputDigest = toHexString(digest.digest());
+		fStepToActionProps.setProperty(inputKey, stamp + inputDigest);
+		fIsDirty = true;
+		return inputDigest;
+	}
+
+	/**
+	 * Forgets the digests of the inputs which are not among the given
+	 * resources, e.g. because they have been removed from the build
+	 *
+	 * @param rcs all the resources of the current build
+	 */
+	public void retainInputs(IBuildResource[] rcs) {
+		Set<String> inputKeys = new HashSet<>();
+		for (IBuildResource rc : rcs) {
+			IPath location = rc.getLocation();
+			if (location != null)
+				inputKeys.add(INPUT_KEY_PREFIX + location.toOSString());
+		}
+
+		for (Iterator<Object> iter = fStepToActionProps.keySet().iterator(); iter.hasNext();) {
+			String key = (String) iter.next();
+			if (key.startsWith(INPUT_KEY_PREFIX) && !inputKeys.contains(key)) {
+				iter.remove();
+				fIsDirty = true;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the step was last built with the given action key and
+	 * its outputs have not been changed since.
+	 */
+	public boolean isUpToDate(IBuildStep step, String actionKey) {
+		if (actionKey == null)
+			return false;
+
+		String value = fStepToActionProps.getProperty(getStepKey(step));
+		if (value == null)
+			return false;
+
+		String stamp = getOutputStamp(step);
+		return stamp != null && value.equals(actionKey + SEPARATOR + stamp);
+	}
+
+	/**
+	 * Records that the step has been built successfully with the given action key
+	 */
+	public void setUpToDate(IBuildStep step, String actionKey) {
+		String stepKey = getStepKey(step);
+		if (stepKey == null)
+			return;
+
+		String stamp = actionKey != null ? getOutputStamp(step) : null;
+		if (stamp != null) {
+			fStepToActionProps.setProperty(stepKey, actionKey + SEPARATOR + stamp);
+			fIsDirty = true;
+		} else {
+			remove(step);
+		}
+	}
+
+	/**
+	 * Forgets the step, e.g. because building it failed
+	 */
+	public void remove(IBuildStep step) {
+		String stepKey = getStepKey(step);
+		if (stepKey != null && fStepToActionProps.remove(stepKey) != null)
+			fIsDirty = true;
+	}
+
+	private String getStepKey(IBuildStep step) {
+		String[] locations = getLocations(step.getOutputResources());
+		if (locations == null || locations.length == 0)
+			return null;
+		Arrays.sort(locations);
+		return String.join(File.pathSeparator, locations);
+	}
+
+	/**
+	 * Returns the time stamps of the step outputs, or <code>null</code> if
+	 * one of them does not exist
+	 */
+	private String getOutputStamp(IBuildStep step) {
+		IBuildResource[] rcs = step.getOutputResources();
+		StringBuilder buf = new StringBuilder();
+		for (IBuildResource rc : rcs) {
+			IPath location = rc.getLocation();
+			if (location == null)
+				return null;
+			long modified = location.toFile().lastModified();
+			if (modified == 0)
+				return null;
+			if (buf.length() != 0)
+				buf.append(',');
+			buf.append(modified);
+		}
+		return buf.toString();
+	}
+
+	private static String[] getLocations(IBuildResource[] rcs) {
+		String[] locations = new String[rcs.length];
+		for (int i = 0; i < rcs.length; i++) {
+			IPath location = rcs[i].getLocation();
+			if (location == null)
+				return null;
+			locations[i] = location.toOSString();
+		}
+		return locations;
+	}
+
+	private static void update(MessageDigest digest, String str) {
+		digest.update(str.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static String toHexString(byte[] bytes) {
+		StringBuilder buf = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buf.append(Character.forDigit((b >> 4) & 0xf, 16));
+			buf.append(Character.forDigit(b & 0xf, 16));
+		}
+		return buf.toString();
+	}
+}
@@ -36,6 +36,18 @@ public class BuildProcessManager {
 	protected Vector<ProcessLauncher> processes;
 	protected int maxProcesses;
 
+	private final Object completionLock = new Object();
+	private boolean completed;
+	private final Runnable completionListener = new Runnable() {
+		@Override
+		public void run() {
+			synchronized (completionLock) {
+				completed = true;
+				completionLock.notifyAll();
+			}
+		}
+	};
+
 	/**
 	 * Initializes process manager
 	 *
@@ -72,6 +84,7 @@ public class BuildProcessManager {
 			if (i >= processes.size()) {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				process.setCompletionListener(completionListener);
 				processes.add(process);
 				process.launch();
 				return process;
@@ -80,6 +93,7 @@ public class BuildProcessManager {
 			if (processes.get(i).queryState() == ProcessLauncher.STATE_DONE) {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				process.setCompletionListener(completionListener);
 				processes.set(i, process);
 				process.launch();
 				return process;
@@ -117,6 +131,27 @@ public class BuildProcessManager {
 		return false;
 	}
 
+	/**
+	 * Waits until one of the launched processes may have completed, or until
+	 * the given timeout has elapsed. Returns immediately if a process has
+	 * completed since the previous call, so no completion can be missed
+	 * between checking the process states and calling this method.
+	 *
+	 * @param timeout Maximum time to wait in milliseconds
+	 */
+	public void waitForCompletion(long timeout) {
+		synchronized (completionLock) {
+			if (!completed) {
+				try {
+					completionLock.wait(timeout);
+				} catch (InterruptedException e) {
+					// do nothing
+				}
+			}
+			completed = false;
+		}
+	}
+
 	/**
 	 * Returns maximum threads used up to that point
 	 */
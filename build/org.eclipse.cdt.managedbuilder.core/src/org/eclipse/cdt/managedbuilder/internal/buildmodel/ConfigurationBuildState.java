@@ -36,6 +36,7 @@ public class ConfigurationBuildState implements IConfigurationBuildState {
 	private String fCfgId;
 	private IProject fProject;
 	private int fState;
+	private BuildActionCache fActionCache;
 
 	ConfigurationBuildState(IProject project, String cfgId) {
 		fCfgId = cfgId;
@@ -207,6 +208,20 @@ public class ConfigurationBuildState implements IConfigurationBuildState {
 		fStateToPathListMap = null;
 	}
 
+	/**
+	 * Returns the cache of the actions performed by the last builds of this
+	 * configuration
+	 */
+	public BuildActionCache getActionCache() {
+		if (fActionCache == null)
+			fActionCache = new BuildActionCache();
+		return fActionCache;
+	}
+
+	boolean hasActionCache() {
+		return fActionCache != null;
+	}
+
 	@Override
 	public String getConfigurationId() {
 		return fCfgId;
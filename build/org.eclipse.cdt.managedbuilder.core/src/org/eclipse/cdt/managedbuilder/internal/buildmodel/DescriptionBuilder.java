@@ -175,6 +175,12 @@ public class DescriptionBuilder implements IBuildModelBuilder {
 		if (status == STATUS_OK)
 			clearRebuildStates();
 
+		if (fRebuildStateContainer instanceof ConfigurationBuildState) {
+			ConfigurationBuildState cbs = (ConfigurationBuildState) fRebuildStateContainer;
+			if (cbs.hasActionCache())
+				cbs.getActionCache().retainInputs(fDes.getResources());
+		}
+
 		return status;
 	}
 
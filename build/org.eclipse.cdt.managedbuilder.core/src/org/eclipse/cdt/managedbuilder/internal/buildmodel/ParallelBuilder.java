@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Vector;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -78,6 +79,7 @@ public class ParallelBuilder {
 	protected class BuildQueueElement implements Comparable<BuildQueueElement> {
 		protected IBuildStep step;
 		protected int level;
+		protected int pathLength;
 
 		public BuildQueueElement(IBuildStep _step, int _level) {
 			step = _step;
@@ -96,6 +98,18 @@ public class ParallelBuilder {
 			level = _level;
 		}
 
+		/**
+		 * Returns the number of steps to be built on the longest dependency
+		 * chain starting with this element's step
+		 */
+		public int getPathLength() {
+			return pathLength;
+		}
+
+		public void setPathLength(int _pathLength) {
+			pathLength = _pathLength;
+		}
+
 		@Override
 		public int hashCode() {
 			return step.hashCode();
@@ -110,6 +124,11 @@ public class ParallelBuilder {
 				return -1;
 			if (elem.getLevel() < level)
 				return 1;
+			// Within a level, start steps on the critical path first
+			if (elem.getPathLength() < pathLength)
+				return -1;
+			if (elem.getPathLength() > pathLength)
+				return 1;
 			return 0;
 		}
 
@@ -127,7 +146,7 @@ public class ParallelBuilder {
 
 		@Override
 		public String toString() {
-			return "[BuildQueueElement] " + DbgUtil.stepName(step) + " @ " + level; //$NON-NLS-1$ //$NON-NLS-2$
+			return "[BuildQueueElement] " + DbgUtil.stepName(step) + " @ " + level + " / " + pathLength; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 	}
 
@@ -142,9 +161,11 @@ public class ParallelBuilder {
 		protected int activeCmd;
 		protected boolean done;
 		protected ProcessLauncher launcher;
+		protected long startTime;
 
 		public ActiveBuildStep(IBuildStep _step) {
 			step = _step;
+			startTime = System.currentTimeMillis();
 
 			if (dirs == null)
 				stepDirs = new GenDirInfo(step.getBuildDescription().getConfiguration());
@@ -190,6 +211,13 @@ public class ParallelBuilder {
 			return launcher;
 		}
 
+		/**
+		 * Returns the time elapsed since the step was started, in milliseconds
+		 */
+		public long getElapsedTime() {
+			return System.currentTimeMillis() - startTime;
+		}
+
 		protected void createOutDirs() {
 			IBuildResource rcs[] = step.getOutputResources();
 
@@ -419,7 +447,9 @@ public class ParallelBuilder {
 	 * Sorts the queue
 	 */
 	protected void sortQueue() {
+		Map<IBuildStep, Integer> pathLengths = new HashMap<>();
 		for (BuildQueueElement elem : unsorted) {
+			elem.setPathLength(getPathLength(elem.getStep(), pathLengths));
 			queue.add(elem);
 		}
 		unsorted.clear();
@@ -430,6 +460,31 @@ public class ParallelBuilder {
 		Collections.sort(queue);
 	}
 
+	/**
+	 * Returns the number of enqueued steps on the longest dependency chain
+	 * starting with the given step. Steps with a long chain are on the
+	 * critical path of the build and should be started as early as possible.
+	 */
+	protected int getPathLength(IBuildStep step, Map<IBuildStep, Integer> pathLengths) {
+		Integer length = pathLengths.get(step);
+		if (length != null)
+			return length.intValue();
+
+		int max = 0;
+		IBuildResource[] resources = step.getOutputResources();
+		for (int i = 0; i < resources.length; i++) {
+			IBuildStep steps[] = resources[i].getDependentSteps();
+			for (int j = 0; j < steps.length; j++) {
+				IBuildStep st = steps[j];
+				if (st != null && st.getBuildDescription().getOutputStep() != st)
+					max = Math.max(max, getPathLength(st, pathLengths));
+			}
+		}
+		int result = queueHash.containsKey(step) ? max + 1 : max;
+		pathLengths.put(step, result);
+		return result;
+	}
+
 	/**
 	 * Enqueues build steps directly accessed from the given one. Each
 	 * new element will have level 1 if it needs rebuild and 0 otherwise.
@@ -478,6 +533,8 @@ public class ParallelBuilder {
 		int maxLevel = 0;
 		int status = STATUS_OK;
 		String errorMsg = null;
+		long dispatchStartTime = System.currentTimeMillis();
+		long busyTime = 0;
 
 		// Going into "infinite" main loop
 		main_loop: while (true) {
@@ -499,6 +556,7 @@ public class ParallelBuilder {
 			}
 			// Everything goes OK.
 			boolean proceed = true;
+			boolean progress = false;
 
 			// Check if there is room for new process
 			if (!mgr.hasEmpty()) {
@@ -520,6 +578,7 @@ public class ParallelBuilder {
 						// Try to launch next command for the current active step
 						if (buildStep.isDone())
 							continue;
+						progress = true;
 						if (buildStep.launchNextCmd(mgr)) {
 							// Command has been launched. Check if process pool is not maximized yet
 							if (!mgr.hasEmpty()) {
@@ -531,18 +590,20 @@ public class ParallelBuilder {
 							refreshOutputs(buildStep.getStep());
 							activeCount--;
 							monitor.worked(1);
+							long elapsed = buildStep.getElapsedTime();
+							busyTime += elapsed;
+							if (DbgUtil.DEBUG)
+								DbgUtil.trace("step " + DbgUtil.stepName(buildStep.getStep()) + " completed in " //$NON-NLS-1$ //$NON-NLS-2$
+										+ elapsed + " ms"); //$NON-NLS-1$
 						}
 					}
 				}
 			}
 
-			// If nothing to do, then sleep and continue main loop
+			// If nothing to do, then wait for a process to complete and
+			// continue main loop
 			if (!proceed) {
-				try {
-					Thread.sleep(MAIN_LOOP_DELAY);
-				} catch (InterruptedException e) {
-					// do nothing
-				}
+				mgr.waitForCompletion(MAIN_LOOP_DELAY);
 				continue main_loop;
 			}
 
@@ -590,6 +651,7 @@ public class ParallelBuilder {
 						// Remove element from the build queue and add it to the
 						// "active steps" list.
 						iter.remove();
+						progress = true;
 						for (int i = 0; i < maxProcesses; i++) {
 							if (i >= active.size()) {
 								// add new item
@@ -621,6 +683,18 @@ public class ParallelBuilder {
 			// Now finally, check if we're done
 			if (activeCount <= 0 && queue.size() == 0)
 				break main_loop;
+
+			// If no step could be started or continued, then wait for a
+			// process to complete rather than spinning over the queue
+			if (!progress)
+				mgr.waitForCompletion(MAIN_LOOP_DELAY);
+		}
+
+		if (DbgUtil.DEBUG) {
+			long elapsed = System.currentTimeMillis() - dispatchStartTime;
+			if (elapsed > 0)
+				DbgUtil.trace("dispatch completed in " + elapsed + " ms, utilization of " + maxProcesses //$NON-NLS-1$ //$NON-NLS-2$
+						+ " processes: " + (100 * busyTime / (elapsed * maxProcesses)) + "%"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 		if (status != STATUS_OK && errorMsg != null)
@@ -47,6 +47,7 @@ public class ProcessLauncher {
 	protected Process process;
 	protected ProcessClosure closure = null;
 	protected int state;
+	protected Runnable completionListener;
 
 	/**
 	 * Returns command line as a string array
@@ -129,6 +130,14 @@ public class ProcessLauncher {
 		lineSeparator = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Sets a listener notified from the output reader threads when the
+	 * launched process may have completed. Must be set before {@link #launch()}.
+	 */
+	public void setCompletionListener(Runnable listener) {
+		completionListener = listener;
+	}
+
 	/**
 	 * Launches a process
 	 */
@@ -139,6 +148,7 @@ public class ProcessLauncher {
 			state = STATE_RUNNING;
 			process = ProcessFactory.getFactory().exec(cmd, env, cwd);
 			closure = new ProcessClosure(process, out, err);
+			closure.setCompletionListener(completionListener);
 			// Close the input of the process since we will never write to it
 			try {
 				process.getOutputStream().close();
@@ -34,6 +34,8 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
 
 public class ProjectBuildState implements IProjectBuildState {
+	private static final String ACTIONS_FILE_SUFFIX = ".actions"; //$NON-NLS-1$
+
 	private Properties fCfgIdToFileNameProps;
 	private Map<String, ConfigurationBuildState> fCfgIdToStateMap = new HashMap<>();
 	private IProject fProject;
@@ -77,6 +79,17 @@ public class ProjectBuildState implements IProjectBuildState {
 			} catch (IOException e) {
 				ManagedBuilderCorePlugin.log(e);
 			}
+
+			File actionsFile = getActionsFile(file);
+			if (actionsFile.exists()) {
+				try {
+					InputStream iStream = new FileInputStream(actionsFile);
+					bs.getActionCache().load(iStream);
+					iStream.close();
+				} catch (IOException e) {
+					ManagedBuilderCorePlugin.log(e);
+				}
+			}
 		}
 		return bs;
 	}
@@ -144,6 +157,10 @@ public class ProjectBuildState implements IProjectBuildState {
 		return path.toFile();
 	}
 
+	private File getActionsFile(File cfgFile) {
+		return new File(cfgFile.getPath() + ACTIONS_FILE_SUFFIX);
+	}
+
 	private void saveMapFile() {
 		if (fCfgIdToFileNameProps == null)
 			return;
@@ -208,6 +225,7 @@ public class ProjectBuildState implements IProjectBuildState {
 				File file = getFileForCfg(id, false);
 				if (file != null && file.exists()) {
 					file.delete();
+					getActionsFile(file).delete();
 					getFileName(id, OP_REMOVE);
 				}
 			} else {
@@ -225,6 +243,16 @@ public class ProjectBuildState implements IProjectBuildState {
 				} catch (IOException e) {
 					ManagedBuilderCorePlugin.log(e);
 				}
+
+				if (s.hasActionCache() && s.getActionCache().isDirty()) {
+					try {
+						FileOutputStream oStream = new FileOutputStream(getActionsFile(file));
+						s.getActionCache().store(oStream);
+						oStream.close();
+					} catch (IOException e) {
+						ManagedBuilderCorePlugin.log(e);
+					}
+				}
 			}
 		}
 
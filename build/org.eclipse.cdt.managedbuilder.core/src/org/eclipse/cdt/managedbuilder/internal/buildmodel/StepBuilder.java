@@ -15,6 +15,7 @@ package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
 import java.io.OutputStream;
 
+import org.eclipse.cdt.core.resources.ACBuilder;
 import org.eclipse.cdt.managedbuilder.buildmodel.BuildDescriptionManager;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
@@ -48,6 +49,7 @@ public class StepBuilder implements IBuildModelBuilder {
 	private GenDirInfo fDirs;
 	private boolean fResumeOnErrs;
 	private int fNumCommands = -1;
+	private IBuildCommand fCommands[];
 	private CommandBuilder fCommandBuilders[];
 	private IResourceRebuildStateContainer fRebuildStateContainer;
 
@@ -87,6 +89,21 @@ public class StepBuilder implements IBuildModelBuilder {
 		int status = STATUS_OK;
 		CommandBuilder bs[] = getCommandBuilders();
 		if (bs.length > 0) {
+			BuildActionCache cache = getActionCache();
+			String actionKey = null;
+			if (cache != null) {
+				actionKey = cache.computeActionKey(fStep, fCommands);
+				if (cache.isUpToDate(fStep, actionKey)) {
+					// Inputs and commands are the same as for the last
+					// successful build, so the outputs are up to date
+					if (DbgUtil.DEBUG)
+						DbgUtil.trace("step " + DbgUtil.stepName(fStep) + " is up to date"); //$NON-NLS-1$ //$NON-NLS-2$
+					clearRebuildState();
+					monitor.done();
+					return status;
+				}
+			}
+
 			//TODO: monitor
 			createOutDirs(new NullProgressMonitor());
 
@@ -110,6 +127,13 @@ public class StepBuilder implements IBuildModelBuilder {
 			}
 			//TODO: monitor
 			status = postProcess(status, new NullProgressMonitor());
+
+			if (cache != null) {
+				if (status == STATUS_OK)
+					cache.setUpToDate(fStep, actionKey);
+				else
+					cache.remove(fStep);
+			}
 		}
 		monitor.done();
 		return status;
@@ -133,6 +157,22 @@ public class StepBuilder implements IBuildModelBuilder {
 		return status;
 	}
 
+	/**
+	 * Returns the action cache of the configuration being built, or
+	 * <code>null</code> if the step can not be skipped based on it, e.g.
+	 * because the user wants touched inputs to be rebuilt
+	 */
+	private BuildActionCache getActionCache() {
+		if (!(fRebuildStateContainer instanceof ConfigurationBuildState) || !ACBuilder.skipUnchangedBuildSteps())
+			return null;
+
+		IBuildDescription des = fStep.getBuildDescription();
+		if (fStep == des.getInputStep() || fStep == des.getOutputStep())
+			return null;
+
+		return ((ConfigurationBuildState) fRebuildStateContainer).getActionCache();
+	}
+
 	private void clearRebuildState() {
 		if (fRebuildStateContainer == null)
 			return;
@@ -219,6 +259,7 @@ public class StepBuilder implements IBuildModelBuilder {
 	protected CommandBuilder[] getCommandBuilders() {
 		if (fCommandBuilders == null) {
 			IBuildCommand cmds[] = fStep.getCommands(fCWD, null, null, true);
+			fCommands = cmds;
 			if (cmds == null)
 				fCommandBuilders = new CommandBuilder[0];
 			else {
@@ -21,12 +21,15 @@ import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.CommandLauncherManager;
@@ -117,6 +120,8 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 	private static final String ENV_LANGUAGE = "LANGUAGE"; //$NON-NLS-1$
 	private static final String ENV_LC_ALL = "LC_ALL"; //$NON-NLS-1$
 	private static final String ENV_PATH = "PATH"; //$NON-NLS-1$
+	private static final String ENV_CWD = "CWD"; //$NON-NLS-1$
+	private static final String ENV_PWD = "PWD"; //$NON-NLS-1$
 
 	private static final int MONITOR_SCALE = 100;
 	private static final int TICKS_REMOVE_MARKERS = 1 * MONITOR_SCALE;
@@ -146,6 +151,23 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 	private boolean isConsoleEnabled = false;
 	private String currentCommandResolved = null;
 
+	/**
+	 * Results of the compiler probes run in this session, shared by all the
+	 * detectors. Detectors of many projects using the same toolchain would
+	 * otherwise run the same command for each project.
+	 */
+	private static final Map<String, ProbeResult> probeCache = new ConcurrentHashMap<>();
+
+	private static class ProbeResult {
+		private final String compilerStamp;
+		private final List<ICLanguageSettingEntry> entries;
+
+		ProbeResult(String compilerStamp, List<ICLanguageSettingEntry> entries) {
+			this.compilerStamp = compilerStamp;
+			this.entries = entries;
+		}
+	}
+
 	private class SDMarkerGenerator implements IMarkerGenerator {
 		// Reuse scanner discovery markers defined in org.eclipse.cdt.managedbuilder.core plugin.xml
 		protected static final String SCANNER_DISCOVERY_PROBLEM_MARKER = "org.eclipse.cdt.managedbuilder.core.scanner.discovery.problem"; //$NON-NLS-1$
@@ -444,24 +466,11 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 					envHashNew = 31 * envHashNew + command.hashCode();
 				}
 
-				String[] cmdArray = CommandLineUtil.argumentsToArray(command);
-				if (cmdArray != null && cmdArray.length > 0) {
-					IPath location = new Path(cmdArray[0]);
-					if (!location.isAbsolute()) {
-						location = PathUtil.findProgramLocation(cmdArray[0], envPathValue);
-					}
-					if (location != null) {
-						java.io.File file = new java.io.File(location.toString());
-						try {
-							// handles symbolic links as java.io.File.getCanonicalPath() resolves symlinks on UNIX
-							file = file.getCanonicalFile();
-						} catch (IOException e) {
-							ManagedBuilderCorePlugin.log(e);
-						}
-						long lastModified = file.lastModified();
-						envHashNew = 31 * envHashNew + location.hashCode();
-						envHashNew = 31 * envHashNew + lastModified;
-					}
+				IPath location = findCompilerLocation(command, envPathValue);
+				if (location != null) {
+					long lastModified = getCompilerFile(location).lastModified();
+					envHashNew = 31 * envHashNew + location.hashCode();
+					envHashNew = 31 * envHashNew + lastModified;
 				}
 			} catch (CoreException e) {
 				ManagedBuilderCorePlugin.log(e);
@@ -470,6 +479,79 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 		return envHashNew;
 	}
 
+	/**
+	 * Find location of the compiler program of the given command.
+	 */
+	private static IPath findCompilerLocation(String command, String envPathValue) {
+		String[] cmdArray = CommandLineUtil.argumentsToArray(command);
+		if (cmdArray != null && cmdArray.length > 0) {
+			IPath location = new Path(cmdArray[0]);
+			if (!location.isAbsolute()) {
+				location = PathUtil.findProgramLocation(cmdArray[0], envPathValue);
+			}
+			return location;
+		}
+		return null;
+	}
+
+	/**
+	 * Get the compiler program file, following symbolic links.
+	 */
+	private static java.io.File getCompilerFile(IPath location) {
+		java.io.File file = new java.io.File(location.toString());
+		try {
+			// handles symbolic links as java.io.File.getCanonicalPath() resolves symlinks on UNIX
+			file = file.getCanonicalFile();
+		} catch (IOException e) {
+			ManagedBuilderCorePlugin.log(e);
+		}
+		return file;
+	}
+
+	/**
+	 * Calculate the key of the current command in the probe cache. The output of the command
+	 * depends on the command line, the environment and the compiler program. The command
+	 * runs on the spec file in the workspace area, so its output does not depend on the
+	 * working directory. That and variables specific to the project are left out so that
+	 * projects can share the results.
+	 *
+	 * @return the key or {@code null} if the result of the command can not be shared.
+	 */
+	private String getProbeCacheKey() {
+		if (isConsoleEnabled || currentCommandResolved == null || environmentMap == null) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder();
+		key.append(getClass().getName()).append('\n');
+		key.append(currentLanguageId).append('\n');
+		key.append(currentCommandResolved).append('\n');
+		for (Entry<String, String> var : new TreeMap<>(environmentMap).entrySet()) {
+			String name = var.getKey();
+			if (!name.equalsIgnoreCase(ENV_CWD) && !name.equalsIgnoreCase(ENV_PWD)) {
+				key.append(name).append('=').append(var.getValue()).append('\n');
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Calculate the stamp of the compiler program of the current command, used
+	 * to invalidate cached results when the compiler gets upgraded.
+	 *
+	 * @return the stamp or {@code null} if the compiler program is not found.
+	 */
+	private String getCompilerStamp() {
+		IPath location = findCompilerLocation(currentCommandResolved, environmentMap.get(ENV_PATH));
+		if (location == null) {
+			return null;
+		}
+		java.io.File file = getCompilerFile(location);
+		if (!file.isFile()) {
+			return null;
+		}
+		return file.getPath() + ':' + file.lastModified() + ':' + file.length();
+	}
+
 	/**
 	 * This method does 2 related things:
 	 * <br>
@@ -675,6 +757,19 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 		if (monitor == null) {
 			monitor = new NullProgressMonitor();
 		}
+
+		String probeKey = getProbeCacheKey();
+		String compilerStamp = probeKey != null ? getCompilerStamp() : null;
+		if (compilerStamp != null) {
+			ProbeResult result = probeCache.get(probeKey);
+			if (result != null && result.compilerStamp.equals(compilerStamp)) {
+				setSettingEntries(result.entries);
+				monitor.done();
+				return;
+			}
+		}
+
+		boolean isFinished = false;
 		try {
 			monitor.beginTask(
 					ManagedMakeMessages.getFormattedString("AbstractBuiltinSpecsDetector.RunningScannerDiscovery", //$NON-NLS-1$
@@ -729,6 +824,7 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 
 			buildRunnerHelper.close();
 			buildRunnerHelper.goodbye();
+			isFinished = true;
 
 		} catch (Exception e) {
 			ManagedBuilderCorePlugin.log(new CoreException(new Status(IStatus.ERROR, ManagedBuilderCorePlugin.PLUGIN_ID,
@@ -741,6 +837,12 @@ public abstract class AbstractBuiltinSpecsDetector extends AbstractLanguageSetti
 			}
 			monitor.done();
 		}
+
+		if (isFinished && compilerStamp != null && detectedSettingEntries != null
+				&& !detectedSettingEntries.isEmpty()) {
+			probeCache.put(probeKey, new ProbeResult(compilerStamp,
+					Collections.unmodifiableList(new ArrayList<>(detectedSettingEntries))));
+		}
 	}
 
 	/**
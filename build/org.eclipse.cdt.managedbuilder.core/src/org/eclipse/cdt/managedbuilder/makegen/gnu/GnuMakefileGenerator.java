@@ -21,10 +21,12 @@
 package org.eclipse.cdt.managedbuilder.makegen.gnu;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -823,12 +825,40 @@ public class GnuMakefileGenerator implements IManagedBuilderMakefileGenerator2 {
 			bytes = buffer.toString().getBytes();
 		}
 
+		// Leave an unchanged file alone, so that its time stamp does not make
+		// make consider everything depending on it out of date
+		if (bytes != null && hasContents(file, bytes)) {
+			return;
+		}
+
 		ByteArrayInputStream stream = new ByteArrayInputStream(bytes);
 		// use a platform operation to update the resource contents
 		boolean force = true;
 		file.setContents(stream, force, false, null); // Don't record history
 	}
 
+	/**
+	 * Returns whether the file exists, is in sync with the file system and
+	 * already has exactly the given contents.
+	 */
+	private static boolean hasContents(IFile file, byte[] bytes) {
+		IPath location = file.getLocation();
+		if (location == null || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+			return false;
+		}
+
+		File localFile = location.toFile();
+		if (!localFile.isFile() || localFile.length() != bytes.length) {
+			return false;
+		}
+
+		try {
+			return Arrays.equals(Files.readAllBytes(localFile.toPath()), bytes);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.cdt.managedbuilder.makegen.IManagedBuilderMakefileGenerator#regenerateDependencies()
 	 */
@@ -56,6 +56,11 @@ public class ScannerDiscoveryGlobalConsole implements ICConsole {
 			fConsoleStream.write(b, off, len);
 		}
 
+		@Override
+		public synchronized void write(String msg) throws IOException {
+			fConsoleStream.write(msg);
+		}
+
 		@Override
 		public void flush() throws IOException {
 			fConsoleStream.flush();
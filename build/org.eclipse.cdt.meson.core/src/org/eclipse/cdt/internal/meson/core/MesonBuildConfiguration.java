@@ -10,14 +10,13 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.meson.core;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,11 +45,11 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
 
-import com.google.gson.Gson;
-
 public class MesonBuildConfiguration extends CBuildConfiguration {
 
 	private static final String TOOLCHAIN_FILE = "cdt.meson.toolchainfile"; //$NON-NLS-1$
+	private static final String COMPILE_COMMANDS_STAMP = "cdt.meson.compileCommandsStamp"; //$NON-NLS-1$
+	private static final String NEED_REFRESH = "cdt.needScannerRefresh"; //$NON-NLS-1$
 
 	private IMesonToolChainFile toolChainFile;
 
@@ -333,15 +332,24 @@ public class MesonBuildConfiguration extends CBuildConfiguration {
 		if (Files.exists(commandsFile)) {
 			List<Job> jobsList = new ArrayList<>();
 			monitor.setTaskName(Messages.MesonBuildConfiguration_ProcCompJson);
-			try (FileReader reader = new FileReader(commandsFile.toFile())) {
-				Gson gson = new Gson();
-				CompileCommand[] commands = gson.fromJson(reader, CompileCommand[].class);
-				Map<String, CompileCommand> dedupedCmds = new HashMap<>();
-				for (CompileCommand command : commands) {
-					dedupedCmds.put(command.getFile(), command);
+			try {
+				// Nothing to do if the file has not changed since it was last
+				// processed with the same toolchain, unless the toolchain wants
+				// the scanner info refreshed. The stamp is kept in the settings,
+				// and the scanner info it was processed into is saved, so that
+				// this also holds after a restart as long as that info is there.
+				BasicFileAttributes attrs = Files.readAttributes(commandsFile, BasicFileAttributes.class);
+				String stamp = attrs.size() + ":" + attrs.lastModifiedTime().toMillis() + ":" //$NON-NLS-1$ //$NON-NLS-2$
+						+ getToolChain().getId();
+				Preferences settings = getSettings();
+				if (stamp.equals(settings.get(COMPILE_COMMANDS_STAMP, null)) && hasSavedScannerInfoCache()
+						&& !"true".equals(getToolChain().getProperty(NEED_REFRESH))) { //$NON-NLS-1$
+					return;
 				}
-				for (CompileCommand command : dedupedCmds.values()) {
-					processLine(command.getCommand(), jobsList);
+
+				Map<String, String> dedupedCmds = readCompileCommands(commandsFile);
+				for (String command : dedupedCmds.values()) {
+					processLine(command, jobsList);
 				}
 				for (Job j : jobsList) {
 					try {
@@ -351,6 +359,13 @@ public class MesonBuildConfiguration extends CBuildConfiguration {
 					}
 				}
 				shutdown();
+
+				settings.put(COMPILE_COMMANDS_STAMP, stamp);
+				try {
+					settings.flush();
+				} catch (BackingStoreException e) {
+					Activator.log(e);
+				}
 			} catch (IOException e) {
 				throw new CoreException(Activator.errorStatus(
 						String.format(Messages.MesonBuildConfiguration_ProcCompCmds, project.getName()), e));
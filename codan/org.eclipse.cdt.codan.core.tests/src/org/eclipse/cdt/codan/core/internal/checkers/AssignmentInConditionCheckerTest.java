@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.core.internal.checkers;
 
+import java.io.File;
+
 import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
 import org.eclipse.cdt.codan.internal.core.model.CodanProblemMarker;
 import org.eclipse.core.resources.IMarker;
@@ -37,6 +39,24 @@ public class AssignmentInConditionCheckerTest extends CheckerTestCase {
 		checkErrorLine(3);
 	}
 
+	//	 main() {
+	//	   int a=1,b=3;
+	//	   if (a=b) b=4; // error here on line 3
+	//	 }
+	public void test_manyFiles() throws Exception {
+		// Enough files to be analyzed in parallel
+		String code = getAboveComment();
+		File[] files = new File[20];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = loadcode(code);
+		}
+		runCodan();
+		assertEquals(files.length, markers.length);
+		for (File file : files) {
+			checkErrorLine(file, 3);
+		}
+	}
+
 	//	 main() {
 	//	   int a=1,b=3;
 	//
@@ -18,7 +18,8 @@ import java.util.Iterator;
 import java.util.Map;
 
 /**
- * Class to collect time states for checkers runs
+ * Class to collect time states for checkers runs. When files are analyzed in
+ * parallel, the durations add up the time spent by each thread.
  */
 public class CheckersTimeStats {
 	public static final String ALL = "ALL"; //$NON-NLS-1$
@@ -35,17 +36,19 @@ public class CheckersTimeStats {
 
 	private static class TimeRecord {
 		private long duration;
-		private long current;
+		private final Map<Thread, Long> current = new HashMap<>();
 		private int count;
 
 		public void start() {
-			current = System.currentTimeMillis();
+			current.put(Thread.currentThread(), System.currentTimeMillis());
 		}
 
 		public void stop() {
-			count++;
-			duration += System.currentTimeMillis() - current;
-			current = 0;
+			Long start = current.remove(Thread.currentThread());
+			if (start != null) {
+				count++;
+				duration += System.currentTimeMillis() - start;
+			}
 		}
 
 		@Override
@@ -90,7 +93,7 @@ public class CheckersTimeStats {
 	 * @param id
 	 * @param counter
 	 */
-	public void checkerStart(String id, String counter) {
+	public synchronized void checkerStart(String id, String counter) {
 		if (enableStats) {
 			TimeRecord record = getTimeRecord(getKey(id, counter));
 			record.start();
@@ -105,7 +108,7 @@ public class CheckersTimeStats {
 	 * @param id
 	 * @param counter
 	 */
-	public void checkerStop(String id, String counter) {
+	public synchronized void checkerStop(String id, String counter) {
 		if (enableStats) {
 			getTimeRecord(getKey(id, counter)).stop();
 		}
@@ -130,7 +133,7 @@ public class CheckersTimeStats {
 	/**
 	 *
 	 */
-	public void printStats() {
+	public synchronized void printStats() {
 		System.out.println("---"); //$NON-NLS-1$
 		String totalId = getKey(ALL, ELAPSED);
 		TimeRecord all = records.get(totalId);
@@ -147,7 +150,7 @@ public class CheckersTimeStats {
 	/**
 	 *
 	 */
-	public void reset() {
+	public synchronized void reset() {
 		records.clear();
 	}
 
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
@@ -42,12 +44,8 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 		}
 	}
 
-	private class CodanDeltaVisitor implements IResourceDeltaVisitor {
-		private IProgressMonitor monitor;
-
-		public CodanDeltaVisitor(IProgressMonitor monitor) {
-			this.monitor = monitor;
-		}
+	private static class CodanDeltaVisitor implements IResourceDeltaVisitor {
+		private final List<IResource> files = new ArrayList<>();
 
 		@Override
 		public boolean visit(IResourceDelta delta) throws CoreException {
@@ -55,19 +53,26 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 			switch (delta.getKind()) {
 			case IResourceDelta.ADDED:
 				// Handle added resource
-				processResourceDelta(resource, monitor);
+				addFile(resource);
 				break;
 			case IResourceDelta.REMOVED:
 				// Handle removed resource
 				break;
 			case IResourceDelta.CHANGED:
 				// Handle changed resource
-				processResourceDelta(resource, monitor);
+				addFile(resource);
 				break;
 			}
 			// Return true to continue visiting children.
 			return true;
 		}
+
+		private void addFile(IResource resource) {
+			// Checkers only run on files
+			if (resource.getType() == IResource.FILE) {
+				files.add(resource);
+			}
+		}
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -108,17 +113,15 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 		CodanRunner.processResource(resource, mode, monitor);
 	}
 
-	private void processResourceDelta(IResource resource, IProgressMonitor monitor) {
-		processResource(resource, monitor, CheckerLaunchMode.RUN_ON_INC_BUILD);
-	}
-
 	protected void fullBuild(final IProgressMonitor monitor) throws CoreException {
 		processResource(getProject(), monitor);
 	}
 
 	protected void incrementalBuild(IResourceDelta delta, IProgressMonitor monitor) throws CoreException {
-		// The visitor does the work.
-		delta.accept(new CodanDeltaVisitor(monitor));
+		// The visitor collects the changed files, which are then analyzed in parallel.
+		CodanDeltaVisitor visitor = new CodanDeltaVisitor();
+		delta.accept(visitor);
+		CodanRunner.processResources(getProject(), visitor.files, CheckerLaunchMode.RUN_ON_INC_BUILD, monitor);
 	}
 
 	@Override
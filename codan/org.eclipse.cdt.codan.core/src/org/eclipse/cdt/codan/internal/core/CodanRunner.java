@@ -14,6 +14,10 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IChecker;
@@ -21,10 +25,17 @@ import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
 import org.eclipse.cdt.codan.core.model.IRunnableInEditorChecker;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.IResourceProxyVisitor;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
-import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -62,23 +73,104 @@ public class CodanRunner {
 		processResource(resource, null, checkerLaunchMode, monitor);
 	}
 
+	/**
+	 * Runs all checkers on the given resources. Containers are not processed recursively,
+	 * see {@link #processResource(IResource, CheckerLaunchMode, IProgressMonitor)} for that.
+	 *
+	 * The files are analyzed in parallel by a group of jobs, one per processor at most. Each
+	 * file is analyzed in its own invocation context, so with its own AST and read lock on the
+	 * index, while a given checker still analyzes one file at a time.
+	 *
+	 * @param parent - the resource containing all the given resources, used to name the analysis
+	 * @param resources - the resources to run the checkers on
+	 * @param checkerLaunchMode - the checker launch mode.
+	 * @param monitor - the progress monitor
+	 */
+	public static void processResources(IResource parent, final List<? extends IResource> resources,
+			final CheckerLaunchMode checkerLaunchMode, final IProgressMonitor monitor) {
+		String name = NLS.bind(Messages.CodanRunner_Code_analysis_on, parent.getFullPath().toString());
+		int jobCount = Math.min(Runtime.getRuntime().availableProcessors(), resources.size());
+		if (jobCount <= 1) {
+			SubMonitor progress = SubMonitor.convert(monitor, name, resources.size());
+			for (IResource resource : resources) {
+				if (progress.isCanceled())
+					return;
+				processResource(resource, null, checkerLaunchMode, progress.newChild(1));
+			}
+			return;
+		}
+
+		final AtomicInteger next = new AtomicInteger();
+		JobGroup group = new JobGroup(name, jobCount, jobCount);
+		for (int j = 0; j < jobCount; j++) {
+			Job job = new Job(name) {
+				@Override
+				protected IStatus run(final IProgressMonitor jobMonitor) {
+					// The progress monitor of the caller is only used from its thread
+					IProgressMonitor fileMonitor = new NullProgressMonitor() {
+						@Override
+						public boolean isCanceled() {
+							return monitor.isCanceled() || jobMonitor.isCanceled();
+						}
+					};
+					for (int i = next.getAndIncrement(); i < resources.size(); i = next.getAndIncrement()) {
+						if (fileMonitor.isCanceled())
+							return Status.CANCEL_STATUS;
+						processResource(resources.get(i), null, checkerLaunchMode, fileMonitor);
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.setPriority(Job.LONG);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, monitor);
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+		} catch (OperationCanceledException e) {
+			group.cancel();
+		}
+	}
+
+	private static List<IResource> getFiles(IContainer container) {
+		final List<IResource> files = new ArrayList<>();
+		try {
+			container.accept(new IResourceProxyVisitor() {
+				@Override
+				public boolean visit(IResourceProxy proxy) throws CoreException {
+					if (proxy.getType() == IResource.FILE) {
+						files.add(proxy.requestResource());
+					}
+					return true;
+				}
+			}, IResource.NONE);
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+		return files;
+	}
+
 	private static void processResource(IResource resource, Object model, CheckerLaunchMode checkerLaunchMode,
 			IProgressMonitor monitor) {
-		CheckersRegistry chegistry = CheckersRegistry.getInstance();
-		int checkers = chegistry.getCheckersSize();
-		IResource[] children = null;
 		if (resource instanceof IContainer) {
-			try {
-				children = ((IContainer) resource).members();
-			} catch (CoreException e) {
-				CodanCorePlugin.log(e);
+			// Checkers only run on files, the files of a container are only
+			// analyzed when running on the whole container.
+			if (checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
+					|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND) {
+				processResources(resource, getFiles((IContainer) resource), checkerLaunchMode, monitor);
 			}
+			monitor.done();
+			return;
 		}
-		int numChildren = children == null ? 0 : children.length;
-		int childWeight = 10;
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		int checkers = chegistry.getCheckersSize();
 		// System.err.println("processing " + resource);
 		monitor.beginTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, resource.getFullPath().toString()),
-				checkers * (1 + numChildren * childWeight));
+				checkers);
 		try {
 			CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
 			ICheckerInvocationContext context = new CheckerInvocationContext(resource);
@@ -113,15 +205,6 @@ public class CodanRunner {
 				CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
 				//CheckersTimeStats.getInstance().printStats();
 			}
-
-			if (children != null && (checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
-					|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND)) {
-				for (IResource child : children) {
-					if (monitor.isCanceled())
-						return;
-					processResource(child, null, checkerLaunchMode, new SubProgressMonitor(monitor, childWeight));
-				}
-			}
 		} finally {
 			monitor.done();
 		}
@@ -114,10 +114,15 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	@Override
 	public void deleteProblems(final IResource file, final IChecker checker) {
 		try {
+			final Collection<IMarker> markers = findResourceMarkers(file, checker);
+			// This is called for every checker on every file without problems, so
+			// avoid a workspace operation unless there is something to delete.
+			if (markers.isEmpty()) {
+				return;
+			}
 			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
 				@Override
 				public void run(IProgressMonitor monitor) throws CoreException {
-					Collection<IMarker> markers = findResourceMarkers(file, checker);
 					for (IMarker marker : markers) {
 						marker.delete();
 					}
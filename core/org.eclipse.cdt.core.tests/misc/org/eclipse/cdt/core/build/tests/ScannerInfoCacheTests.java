@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.build.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.build.IToolChain;
+import org.eclipse.cdt.core.build.IToolChainProvider;
+import org.eclipse.cdt.core.build.ScannerInfoCache;
+import org.eclipse.cdt.core.build.StandardBuildConfiguration;
+import org.eclipse.cdt.core.envvar.IEnvironmentVariable;
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests loading and saving the scanner info cache of a core build
+ * configuration.
+ */
+public class ScannerInfoCacheTests extends TestCase {
+	private static final String PROJ_NAME_PREFIX = "ScannerInfoCacheTests_";
+	private static final String CONFIG_NAME = "scannerInfoCacheTest";
+
+	private IProject fProject;
+	private IFile fSource;
+
+	/**
+	 * Toolchain without any tools, the scanner info is only added by the tests.
+	 */
+	private static class TestToolChain implements IToolChain {
+		@Override
+		public <T> T getAdapter(Class<T> adapter) {
+			return null;
+		}
+
+		@Override
+		public IToolChainProvider getProvider() {
+			return null;
+		}
+
+		@Override
+		public String getTypeId() {
+			return "scannerInfoCacheTest.type";
+		}
+
+		@Override
+		public String getId() {
+			return "scannerInfoCacheTest.id";
+		}
+
+		@Override
+		public String getVersion() {
+			return "";
+		}
+
+		@Override
+		public String getName() {
+			return "Scanner Info Cache Test";
+		}
+
+		@Override
+		public String getProperty(String key) {
+			return null;
+		}
+
+		@Override
+		public void setProperty(String key, String value) {
+		}
+
+		@Override
+		public IEnvironmentVariable[] getVariables() {
+			return new IEnvironmentVariable[0];
+		}
+
+		@Override
+		public IEnvironmentVariable getVariable(String name) {
+			return null;
+		}
+
+		@Override
+		public String[] getErrorParserIds() {
+			return new String[0];
+		}
+
+		@Override
+		public String getBinaryParserId() {
+			return null;
+		}
+
+		@Override
+		public Path getCommandPath(Path command) {
+			return null;
+		}
+
+		@Override
+		public String[] getCompileCommands() {
+			return new String[0];
+		}
+	}
+
+	private static class TestBuildConfiguration extends StandardBuildConfiguration {
+		TestBuildConfiguration(IBuildConfiguration config) throws CoreException {
+			super(config, CONFIG_NAME, new TestToolChain(), "run");
+		}
+
+		ScannerInfoCache load() {
+			loadScannerInfoCache();
+			return getScannerInfoCache();
+		}
+
+		void save() {
+			saveScannerInfoCache();
+		}
+	}
+
+	public static Test suite() {
+		return new TestSuite(ScannerInfoCacheTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		fProject = ResourceHelper.createCDTProject(PROJ_NAME_PREFIX + getName());
+		fSource = ResourceHelper.createFile(fProject, "a.c");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		getCacheFile().delete();
+		ResourceHelper.cleanUp(getName());
+	}
+
+	private TestBuildConfiguration createConfiguration() throws CoreException {
+		return new TestBuildConfiguration(fProject.getActiveBuildConfig());
+	}
+
+	private File getCacheFile() {
+		return CCorePlugin.getDefault().getStateLocation().append("infoCache").append(fProject.getName())
+				.append(CONFIG_NAME + ".json").toFile();
+	}
+
+	private static void assertScannerInfo(IExtendedScannerInfo info) {
+		assertNotNull(info);
+		assertEquals("1", info.getDefinedSymbols().get("A"));
+		assertEquals(Arrays.asList("/usr/include/a"), Arrays.asList(info.getIncludePaths()));
+	}
+
+	/**
+	 * A cache saved by older versions has the scanner info inline in each
+	 * command, rather than referring to it by index.
+	 */
+	public void testInlineInfoIsLoaded() throws Exception {
+		String resourcePath = fSource.getLocation().toOSString().replace("\\", "\\\\");
+		String json = "{\"commands\":[{\"command\":[\"gcc\",\"-DA=1\",\"-c\",\"a.c\"],"
+				+ "\"info\":{\"definedSymbols\":{\"A\":\"1\"},\"includePaths\":[\"/usr/include/a\"]},"
+				+ "\"resourcePaths\":[\"" + resourcePath + "\"]}]}";
+		File cacheFile = getCacheFile();
+		cacheFile.getParentFile().mkdirs();
+		Files.write(cacheFile.toPath(), json.getBytes(StandardCharsets.UTF_8));
+
+		ScannerInfoCache cache = createConfiguration().load();
+		assertScannerInfo(cache.getScannerInfo(fSource));
+		assertScannerInfo(cache.getScannerInfo(Arrays.asList("gcc", "-DA=1", "-c", "a.c")));
+	}
+
+	public void testSharedInfoSurvivesReload() throws Exception {
+		IFile other = ResourceHelper.createFile(fProject, "b.c");
+		List<String> commandA = Arrays.asList("gcc", "-DA=1", "-c", "a.c");
+		List<String> commandB = Arrays.asList("gcc", "-DA=1", "-c", "b.c");
+
+		TestBuildConfiguration config = createConfiguration();
+		ScannerInfoCache cache = config.load();
+		cache.addScannerInfo(commandA, newInfo(), fSource);
+		cache.addScannerInfo(commandB, newInfo(), other);
+		assertSame(cache.getScannerInfo(fSource), cache.getScannerInfo(other));
+		config.save();
+		// Saving again only writes what is left since the first save
+		cache.removeResource(other);
+		config.save();
+
+		cache = createConfiguration().load();
+		assertScannerInfo(cache.getScannerInfo(fSource));
+		assertScannerInfo(cache.getScannerInfo(commandA));
+		assertNull(cache.getScannerInfo(other));
+		String json = new String(Files.readAllBytes(getCacheFile().toPath()), StandardCharsets.UTF_8);
+		assertFalse(json, json.contains("\"info\":"));
+	}
+
+	private static IExtendedScannerInfo newInfo() {
+		return new ExtendedScannerInfo(Collections.singletonMap("A", "1"), new String[] { "/usr/include/a" });
+	}
+}
@@ -18,6 +18,7 @@ import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Map;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.ErrorParserManager;
@@ -26,11 +27,15 @@ import org.eclipse.cdt.core.IErrorParser2;
 import org.eclipse.cdt.core.IMarkerGenerator;
 import org.eclipse.cdt.core.ProblemMarkerInfo;
 import org.eclipse.cdt.core.dom.IPDOMManager;
+import org.eclipse.cdt.core.model.ICModelMarker;
 import org.eclipse.cdt.core.model.ICProject;
+import org.eclipse.cdt.core.resources.ACBuilder;
 import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.CTestPlugin;
 import org.eclipse.core.internal.registry.ExtensionRegistry;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceDescription;
@@ -39,6 +44,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.ContributorFactoryOSGi;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
@@ -335,4 +341,39 @@ public class ErrorParserManagerTest extends TestCase {
 		assertEquals("Workspace level marker", problemMarkerInfo.description);
 		assertTrue(problemMarkerInfo.file instanceof IWorkspaceRoot);
 	}
+
+	private static class TestBuilder extends ACBuilder {
+		TestBuilder(IProject project) {
+			setCurrentProject(project);
+		}
+
+		@Override
+		protected IProject[] build(int kind, Map<String, String> args, IProgressMonitor monitor) {
+			return null;
+		}
+	}
+
+	public void testDeferredMarkers() throws Exception {
+		IProject project = cProject.getProject();
+		IFile file = project.getFile("deferred.c");
+		file.create(new ByteArrayInputStream(new byte[0]), true, monitor);
+		epManager = new ErrorParserManager(project, new TestBuilder(project),
+				new String[] { "org.eclipse.cdt.core.GCCErrorParser" });
+
+		epManager.deferDeDuplication();
+		output("deferred.c:12: warning: unused variable 'x'\n");
+		output("deferred.c:12: warning: unused variable 'x'\n");
+		output("deferred.c:13: warning: unused variable 'y'\n");
+		assertEquals(0, file.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true, IResource.DEPTH_ZERO).length);
+
+		epManager.deDuplicate();
+		IMarker[] markers = file.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+		assertEquals(2, markers.length);
+
+		// Markers that already exist are not created again
+		epManager.deferDeDuplication();
+		output("deferred.c:13: warning: unused variable 'y'\n");
+		epManager.deDuplicate();
+		assertEquals(2, file.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true, IResource.DEPTH_ZERO).length);
+	}
 }
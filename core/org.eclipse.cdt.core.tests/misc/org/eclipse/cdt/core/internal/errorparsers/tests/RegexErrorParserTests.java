@@ -256,6 +256,34 @@ public class RegexErrorParserTests extends TestCase {
 		}
 	}
 
+	/**
+	 * Check that lines are matched by patterns using optional, escaped, class and flag
+	 * constructs, and rejected when they lack a literal required by the pattern.
+	 *
+	 * @throws Exception...
+	 */
+	public void testRegexErrorPatternLiterals() throws Exception {
+		String[][] matching = { { "ab?c", "ac" }, { "ab*c", "ac" }, { "ab{0,2}c", "ac" }, { "a+b", "aaab" },
+				{ "a\\.b", "a.b" }, { "(?i)error", "ERROR" }, { "x|y", "y" }, { "\\x41B", "AB" },
+				{ "[]a]b", "]b" }, { "(.*):(\\d+):(\\d+:)?\\s*(([Ee]rror)|(ERROR)): (.*)", "foo.c:12:3: error: bad" },
+				{ "(.*[/\\\\])?ld(\\.exe)?: (.*)", "/usr/bin/ld: cannot find -lfoo" }, { "a\\)?b", "ab" },
+				{ "a\\]*b", "ab" } };
+		String[][] notMatching = { { "ab?c", "ab" }, { "a\\.b", "axb" },
+				{ "(.*):(\\d+): [Ee]rror: (.*)", "foo.c:12 error" } };
+
+		ErrorParserManager epManager = new ErrorParserManager(fProject, markerGenerator, new String[0]);
+		for (String[] pair : matching) {
+			RegexErrorPattern pattern = new RegexErrorPattern(pair[0], null, null, null, null,
+					RegexErrorPattern.SEVERITY_SKIP, true);
+			assertTrue(pair[0], pattern.processLine(pair[1], epManager));
+		}
+		for (String[] pair : notMatching) {
+			RegexErrorPattern pattern = new RegexErrorPattern(pair[0], null, null, null, null,
+					RegexErrorPattern.SEVERITY_SKIP, true);
+			assertFalse(pair[0], pattern.processLine(pair[1], epManager));
+		}
+	}
+
 	/**
 	 * Checks if compatibility with CCorePlugin methods from CDT 6.0 was not violated.
 	 *
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.utils;
+
+import java.util.Arrays;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.core.runtime.Platform;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests sending batches of requests to addr2line and c++filt, using shell
+ * commands in place of the GNU tools.
+ */
+public class SymbolToolsBatchTest extends TestCase {
+
+	/** Answers each address with the address and the number of the request as line */
+	private static final String[] ADDR2LINE_ARGS = { "-c",
+			"n=0; while read a; do n=$((n+1)); echo \"$a\"; echo \"f.c:$n\"; done" };
+
+	private Addr2line addr2line;
+	private CPPFilt cppfilt;
+
+	public static Test suite() {
+		return new TestSuite(SymbolToolsBatchTest.class);
+	}
+
+	@Override
+	protected void runTest() throws Throwable {
+		if (!Platform.getOS().equals(Platform.OS_WIN32)) {
+			super.runTest();
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (addr2line != null) {
+			addr2line.dispose();
+		}
+		if (cppfilt != null) {
+			cppfilt.dispose();
+		}
+	}
+
+	private static IAddress[] addresses(long... values) {
+		IAddress[] addresses = new IAddress[values.length];
+		for (int i = 0; i < values.length; i++) {
+			addresses[i] = new Addr32(values[i]);
+		}
+		return addresses;
+	}
+
+	public void testPrefetchedAddresses() throws Exception {
+		addr2line = new Addr2line("sh", ADDR2LINE_ARGS, "");
+		addr2line.prefetch(addresses(0x10, 0x20));
+		assertEquals("f.c:2", addr2line.getLine(new Addr32(0x20)));
+		assertEquals("f.c:1", addr2line.getLine(new Addr32(0x10)));
+		assertEquals(1, addr2line.getLineNumber(new Addr32(0x10)));
+		assertEquals("f.c:3", addr2line.getLine(new Addr32(0x30)));
+	}
+
+	public void testPrefetchDropsPreviousBatch() throws Exception {
+		addr2line = new Addr2line("sh", ADDR2LINE_ARGS, "");
+		addr2line.prefetch(addresses(0x10, 0x20));
+		assertEquals("f.c:1", addr2line.getLine(new Addr32(0x10)));
+		addr2line.prefetch(addresses(0x30));
+		// Not answered from the first batch anymore
+		assertEquals("f.c:4", addr2line.getLine(new Addr32(0x20)));
+		assertEquals("f.c:3", addr2line.getLine(new Addr32(0x30)));
+	}
+
+	public void testPrefetchMoreThanPipeBuffer() throws Exception {
+		addr2line = new Addr2line("sh", ADDR2LINE_ARGS, "");
+		long[] values = new long[5000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = 0x1000 + i;
+		}
+		addr2line.prefetch(addresses(values));
+		for (int i = values.length - 1; i >= 0; i--) {
+			assertEquals("f.c:" + (i + 1), addr2line.getLine(new Addr32(values[i])));
+		}
+	}
+
+	public void testGetFunctions() throws Exception {
+		cppfilt = new CPPFilt("cat");
+		// Enough symbols to be written in several chunks
+		String[] symbols = new String[2000];
+		String[] expected = new String[symbols.length];
+		for (int i = 0; i < symbols.length; i++) {
+			expected[i] = "_ZN9namespace5ClassC2Ev" + i;
+			symbols[i] = expected[i] + "  ";
+		}
+		assertEquals(Arrays.asList(expected), Arrays.asList(cppfilt.getFunctions(symbols)));
+		assertEquals(0, cppfilt.getFunctions(new String[0]).length);
+		assertEquals("_Z1fv", cppfilt.getFunction("_Z1fv"));
+	}
+}
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.core.suite;
 
+import org.eclipse.cdt.core.build.tests.ScannerInfoCacheTests;
 import org.eclipse.cdt.core.cdescriptor.tests.CDescriptorOldTests;
 import org.eclipse.cdt.core.cdescriptor.tests.CDescriptorTests;
 import org.eclipse.cdt.core.envvar.IEnvironmentVariableManagerTests;
@@ -42,6 +43,7 @@ import org.eclipse.cdt.utils.CdtVariableResolverTest;
 import org.eclipse.cdt.utils.CommandLineUtilTest;
 import org.eclipse.cdt.utils.FindProgramLocationTest;
 import org.eclipse.cdt.utils.StorableCdtVariablesTest;
+import org.eclipse.cdt.utils.SymbolToolsBatchTest;
 import org.eclipse.cdt.utils.UNCPathConverterTest;
 import org.eclipse.cdt.utils.WeakHashSetTest;
 import org.eclipse.cdt.utils.elf.ElfParserTest;
@@ -102,7 +104,9 @@ public class AutomatedIntegrationSuite extends TestSuite {
 		suite.addTest(ByteUtilsTest.suite());
 		suite.addTest(UNCPathConverterTest.suite());
 		suite.addTest(TestScopeOfBuildConfigResourceChangesPreference.suite());
+		suite.addTest(ScannerInfoCacheTests.suite());
 		suite.addTest(ElfParserTest.suite());
+		suite.addTest(SymbolToolsBatchTest.suite());
 
 		// Add in PDOM tests
 		suite.addTest(PDOMTests.suite());
@@ -16,6 +16,9 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
 import org.eclipse.cdt.core.model.CModelException;
@@ -35,11 +38,13 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeManager;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 public class BinaryRunner {
 
@@ -118,7 +123,9 @@ public class BinaryRunner {
 						BinaryParserConfig[] parsers = CModelManager.getDefault()
 								.getBinaryParser(cproject.getProject());
 						if (parsers.length > 0) {
-							cproject.getProject().accept(new Visitor(monitor), IContainer.INCLUDE_PHANTOMS);
+							Visitor visitor = new Visitor(monitor);
+							cproject.getProject().accept(visitor, IContainer.INCLUDE_PHANTOMS);
+							addBinaries(visitor.getCandidates(), parsers, monitor);
 						}
 
 						if (!monitor.isCanceled()) {
@@ -172,10 +179,73 @@ public class BinaryRunner {
 		}
 	}
 
+	/**
+	 * Probes the candidate files with the binary parsers and adds the binaries
+	 * to the {Archive,Binary}Container. Reading the headers of the files is
+	 * done in parallel, as it dominates the time spent on large build trees.
+	 * This is done by a group of jobs, one per processor at most, rather than
+	 * by the common fork join pool shared with the rest of the workbench.
+	 */
+	private void addBinaries(List<IFile> candidates, BinaryParserConfig[] parsers, IProgressMonitor monitor) {
+		// Instantiate the parsers up front, it is not thread safe.
+		for (BinaryParserConfig parser : parsers) {
+			try {
+				parser.getBinaryParser();
+			} catch (CoreException e) {
+				CCorePlugin.log(e);
+			}
+		}
+
+		CModelManager factory = CModelManager.getDefault();
+		IBinaryFile[] binaries = new IBinaryFile[candidates.size()];
+		int jobCount = Math.min(Runtime.getRuntime().availableProcessors(), binaries.length);
+		if (jobCount == 0) {
+			return;
+		}
+		JobGroup group = new JobGroup(runnerJob.getName(), jobCount, jobCount);
+		for (int j = 0; j < jobCount; j++) {
+			final int first = j;
+			Job job = new Job(runnerJob.getName()) {
+				@Override
+				protected IStatus run(IProgressMonitor jobMonitor) {
+					for (int i = first; i < binaries.length; i += jobCount) {
+						if (monitor.isCanceled() || jobMonitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						binaries[i] = factory.createBinaryFile(candidates.get(i));
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.setPriority(Job.LONG);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, monitor);
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+			return;
+		} catch (OperationCanceledException e) {
+			group.cancel();
+			return;
+		}
+
+		for (int i = 0; i < binaries.length && !monitor.isCanceled(); i++) {
+			if (binaries[i] != null) {
+				// Create the file will add it to the {Archive,Binary}Container.
+				factory.create(candidates.get(i), binaries[i], cproject);
+			}
+		}
+	}
+
 	private class Visitor implements IResourceProxyVisitor {
 		private final IProgressMonitor vMonitor;
 		private final IProject project;
 		private final IContentType textContentType;
+		private final List<IFile> candidates = new ArrayList<>();
 
 		public Visitor(IProgressMonitor monitor) {
 			vMonitor = monitor;
@@ -221,13 +291,7 @@ public class BinaryRunner {
 			if (path != null) {
 				for (IOutputEntry entrie : entries) {
 					if (isOnOutputEntry(entrie, path)) {
-						IFile file = (IFile) proxy.requestResource();
-						CModelManager factory = CModelManager.getDefault();
-						IBinaryFile bin = factory.createBinaryFile(file);
-						if (bin != null) {
-							// Create the file will add it to the {Archive,Binary}Container.
-							factory.create(file, bin, cproject);
-						}
+						candidates.add((IFile) proxy.requestResource());
 						return true;
 					}
 				}
@@ -235,6 +299,10 @@ public class BinaryRunner {
 			return true;
 		}
 
+		public List<IFile> getCandidates() {
+			return candidates;
+		}
+
 		private boolean isOnOutputEntry(IOutputEntry entry, IPath path) {
 			if (entry.getPath().isPrefixOf(path)
 					&& !CoreModelUtil.isExcluded(path, entry.fullExclusionPatternChars())) {
@@ -280,6 +280,10 @@ public class CCorePlugin extends Plugin {
 			@Override
 			public void write(int c) throws IOException {
 			}
+
+			@Override
+			public void write(String msg) throws IOException {
+			}
 		};
 
 		@Override
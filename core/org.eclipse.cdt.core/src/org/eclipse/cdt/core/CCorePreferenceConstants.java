@@ -211,6 +211,14 @@ public class CCorePreferenceConstants {
 	 */
 	public static final String PREF_BUILD_CONFIGS_RESOURCE_CHANGES = "build.proj.ref.configs.enabled"; //$NON-NLS-1$
 
+	/**
+	 * Preference key for "skip the build steps whose inputs and commands have not changed since
+	 * they were last built, even if the time stamp of an input has changed".
+	 *
+	 * @since 6.11
+	 */
+	public static final String PREF_BUILD_SKIP_UNCHANGED_STEPS = "build.skip.unchanged.steps.enabled"; //$NON-NLS-1$
+
 	/**
 	 * Default value for {@link #INCLUDE_EXPORT_PATTERN}.
 	 * @since 5.5
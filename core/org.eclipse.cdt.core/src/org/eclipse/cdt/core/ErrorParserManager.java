@@ -333,7 +333,11 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 		 * If the tool outputs colored text, it will contain ANSI escape
 		 * sequences. Remove them, since they can confuse the error parsers.
 		 */
-		String lineTrimmed = ANSI_ESCAPE_RE.matcher(line).replaceAll("").trim(); //$NON-NLS-1$
+		String lineTrimmed = line;
+		if (line.indexOf('\u001b') >= 0) {
+			lineTrimmed = ANSI_ESCAPE_RE.matcher(line).replaceAll(""); //$NON-NLS-1$
+		}
+		lineTrimmed = lineTrimmed.trim();
 		lineCounter++;
 
 		ProblemMarkerInfo marker = null;
@@ -678,7 +682,9 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	@Override
 	public synchronized void write(int b) throws IOException {
 		currentLine.append((char) b);
-		checkLine(false);
+		if (b == '\n') {
+			checkLine(false);
+		}
 	}
 
 	@Override
@@ -690,8 +696,12 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 		} else if (len == 0) {
 			return;
 		}
-		currentLine.append(new String(b, 0, len));
-		checkLine(false);
+		String str = new String(b, 0, len);
+		currentLine.append(str);
+		// only look for complete lines once there is a new one
+		if (str.indexOf('\n') >= 0) {
+			checkLine(false);
+		}
 	}
 
 	// This method examines contents of currentLine buffer
@@ -700,17 +710,19 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	// If flush is true rest of line is checked by error parsers.
 	private void checkLine(boolean flush) {
 		String buffer = currentLine.toString();
+		int start = 0;
 		int i = 0;
-		while ((i = buffer.indexOf('\n')) != -1) {
-			String line = buffer.substring(0, i);
+		while ((i = buffer.indexOf('\n', start)) != -1) {
+			String line = buffer.substring(start, i);
 			// get rid of any trailing '\r'
 			if (line.endsWith("\r")) { //$NON-NLS-1$
 				line = line.substring(0, line.length() - 1);
 			}
 			processLine(line);
 			previousLine = line;
-			buffer = buffer.substring(i + 1); // skip the \n and advance
+			start = i + 1; // skip the \n and advance
 		}
+		buffer = buffer.substring(start);
 		currentLine.setLength(0);
 		if (flush) {
 			if (buffer.length() > 0) {
@@ -928,8 +940,8 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	}
 
 	/**
-	 * Flag the marker generator to defer the de-duplication of error markers
-	 * until {@link #deDuplicate()} is called
+	 * Flag the marker generator to defer the creation and de-duplication of error
+	 * markers until {@link #deDuplicate()} is called
 	 *
 	 * @since 6.3
 	 */
@@ -940,8 +952,8 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	}
 
 	/**
-	 * De-duplicate error markers on resource that have had error markers added
-	 * since {@link #deferDeDuplication()} was called.
+	 * Create the error markers added since {@link #deferDeDuplication()} was
+	 * called, leaving out duplicates.
 	 *
 	 * @since 6.3
 	 */
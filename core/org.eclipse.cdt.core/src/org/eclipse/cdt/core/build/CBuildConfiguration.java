@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -82,7 +83,10 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
@@ -95,6 +99,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Root class for CDT build configurations. Provides access to the build
@@ -118,6 +123,10 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 
 	private Object scannerInfoLock = new Object();
 
+	/** Scanner info jobs not yet completed, by command; guarded by scannerInfoLock */
+	private final Map<List<String>, ScannerInfoJob> pendingScannerInfoJobs = new HashMap<>();
+	private JobGroup scannerInfoJobGroup;
+
 	private final Map<IResource, List<IScannerInfoChangeListener>> scannerInfoListeners = new HashMap<>();
 	private ScannerInfoCache scannerInfoCache;
 
@@ -726,7 +735,16 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		try (FileWriter writer = new FileWriter(getScannerInfoCacheFile())) {
 			Gson gson = new Gson();
 			synchronized (scannerInfoLock) {
-				gson.toJson(scannerInfoCache, writer);
+				if (scannerInfoCache != null) {
+					scannerInfoCache.prepareSave();
+					try {
+						gson.toJson(scannerInfoCache, writer);
+					} finally {
+						scannerInfoCache.saveDone();
+					}
+				} else {
+					gson.toJson(scannerInfoCache, writer);
+				}
 			}
 		} catch (IOException e) {
 			CCorePlugin.log(e);
@@ -740,6 +758,61 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		return scannerInfoCache;
 	}
 
+	/**
+	 * Returns whether the scanner info cache of this configuration has been
+	 * saved, e.g. to tell whether scanner info processed in a previous session
+	 * is still available.
+	 *
+	 * @since 6.11
+	 */
+	protected boolean hasSavedScannerInfoCache() {
+		return getScannerInfoCacheFile().exists();
+	}
+
+	/**
+	 * Reads the compile commands of a compilation database, such as the
+	 * compile_commands.json file generated by CMake or Meson. The entries are
+	 * read one by one, rather than creating an object for each of them first.
+	 *
+	 * @param commandsFile
+	 *            the compilation database
+	 * @return the command of each file, the last one if a file is listed more
+	 *         than once
+	 * @throws IOException
+	 *             if the file can not be read or is not a compilation database
+	 * @since 6.11
+	 */
+	protected Map<String, String> readCompileCommands(Path commandsFile) throws IOException {
+		Map<String, String> commands = new LinkedHashMap<>();
+		try (JsonReader reader = new JsonReader(new FileReader(commandsFile.toFile()))) {
+			reader.beginArray();
+			while (reader.hasNext()) {
+				String file = null;
+				String command = null;
+				reader.beginObject();
+				while (reader.hasNext()) {
+					switch (reader.nextName()) {
+					case "file": //$NON-NLS-1$
+						file = reader.nextString();
+						break;
+					case "command": //$NON-NLS-1$
+						command = reader.nextString();
+						break;
+					default:
+						reader.skipValue();
+						break;
+					}
+				}
+				reader.endObject();
+				if (command != null) {
+					commands.put(file, command);
+				}
+			}
+			reader.endArray();
+		}
+		return commands;
+	}
+
 	private IExtendedScannerInfo getBaseScannerInfo(IResource resource) throws CoreException {
 		IPath resPath = resource.getFullPath();
 		IIncludeEntry[] includeEntries = CoreModel.getIncludeEntries(resPath);
@@ -943,6 +1016,8 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 		private List<String> commandStrings;
 		private IResource resource;
 		private URI buildDirectoryURI;
+		/** Resources built with the same command; guarded by scannerInfoLock */
+		private List<IResource> resources = new ArrayList<>();
 
 		public ScannerInfoJob(String msg, IToolChain toolchain, List<String> command, IResource resource,
 				URI buildDirectoryURI, List<String> commandStrings) {
@@ -952,20 +1027,52 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 			this.commandStrings = commandStrings;
 			this.resource = resource;
 			this.buildDirectoryURI = buildDirectoryURI;
+			resources.add(resource);
+			// A job cancelled before it runs must not stay pending either
+			addJobChangeListener(new JobChangeAdapter() {
+				@Override
+				public void done(IJobChangeEvent event) {
+					synchronized (scannerInfoLock) {
+						pendingScannerInfoJobs.remove(commandStrings, ScannerInfoJob.this);
+					}
+				}
+			});
 		}
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-			IExtendedScannerInfo info = toolchain.getScannerInfo(getBuildConfiguration(), command, null, resource,
-					buildDirectoryURI);
-			synchronized (scannerInfoLock) {
-				scannerInfoCache.addScannerInfo(commandStrings, info, resource);
-				infoChanged = true;
+			IExtendedScannerInfo info = null;
+			try {
+				info = toolchain.getScannerInfo(getBuildConfiguration(), command, null, resource, buildDirectoryURI);
+			} finally {
+				synchronized (scannerInfoLock) {
+					pendingScannerInfoJobs.remove(commandStrings, this);
+					if (info != null) {
+						for (IResource res : resources) {
+							scannerInfoCache.addScannerInfo(commandStrings, info, res);
+						}
+						infoChanged = true;
+					}
+				}
 			}
 			return Status.OK_STATUS;
 		}
 	}
 
+	/**
+	 * Returns the job group running the scanner info jobs of this
+	 * configuration, which limits the number of compilers probed at once.
+	 */
+	private JobGroup getScannerInfoJobGroup() {
+		synchronized (scannerInfoLock) {
+			if (scannerInfoJobGroup == null) {
+				scannerInfoJobGroup = new JobGroup(Messages.CBuildConfiguration_ScannerInfoJobGroup,
+						Runtime.getRuntime().availableProcessors(), 0);
+			}
+			return scannerInfoJobGroup;
+		}
+	}
+
 	/**
 	 * Process a compile line for Scanner info in a separate job
 	 *
@@ -1048,9 +1155,25 @@ public abstract class CBuildConfiguration extends PlatformObject implements ICBu
 						Path commandPath = findCommand(command.get(0));
 						if (commandPath != null) {
 							command.set(0, commandPath.toString());
-							Job job = new ScannerInfoJob(
-									String.format(Messages.CBuildConfiguration_RunningScannerInfo, resource),
-									getToolChain(), command, resource, getBuildDirectoryURI(), commandStrings);
+							ScannerInfoJob job;
+							synchronized (scannerInfoLock) {
+								// Probe each command only once, even when it is used
+								// for several resources
+								ScannerInfoJob pending = pendingScannerInfoJobs.get(commandStrings);
+								if (pending != null) {
+									pending.resources.add(resource);
+									// Callers join the jobs they get, so hand out the shared one too
+									if (!jobsArray.contains(pending)) {
+										jobsArray.add(pending);
+									}
+									continue;
+								}
+								job = new ScannerInfoJob(
+										String.format(Messages.CBuildConfiguration_RunningScannerInfo, resource),
+										getToolChain(), command, resource, getBuildDirectoryURI(), commandStrings);
+								pendingScannerInfoJobs.put(commandStrings, job);
+							}
+							job.setJobGroup(getScannerInfoJobGroup());
 							job.schedule();
 							jobsArray.add(job);
 						}
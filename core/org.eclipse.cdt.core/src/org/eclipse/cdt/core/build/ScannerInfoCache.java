@@ -11,11 +11,20 @@
 package org.eclipse.cdt.core.build;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
+import org.eclipse.cdt.core.parser.ExtendedScannerInfo;
 import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IParserSettings;
+import org.eclipse.cdt.core.parser.IParserSettings2;
+import org.eclipse.cdt.core.parser.IncludeExportPatterns;
 import org.eclipse.core.resources.IResource;
 
 /**
@@ -27,14 +36,71 @@ public class ScannerInfoCache {
 
 	private static class Command {
 		public List<String> command;
+		/** Scanner info as written by older versions, replaced by {@link #infoId}. */
 		public IExtendedScannerInfo info;
-		public List<String> resourcePaths;
+		/** Index of the scanner info in {@link ScannerInfoCache#infos}. */
+		public Integer infoId;
+		public Set<String> resourcePaths;
+		public transient IExtendedScannerInfo scannerInfo;
 	}
 
-	private List<Command> commands;
+	/**
+	 * Key comparing scanner info by value, so that identical info computed
+	 * for different commands is only kept once.
+	 */
+	private static class InfoKey {
+		private final List<Object> values;
+
+		InfoKey(IExtendedScannerInfo info) {
+			values = new ArrayList<>();
+			values.add(info.getDefinedSymbols());
+			values.add(Arrays.asList(info.getIncludePaths()));
+			values.add(Arrays.asList(info.getLocalIncludePath()));
+			values.add(Arrays.asList(info.getMacroFiles()));
+			values.add(Arrays.asList(info.getIncludeFiles()));
+			if (info instanceof ExtendedScannerInfo) {
+				IncludeExportPatterns patterns = ((ExtendedScannerInfo) info).getIncludeExportPatterns();
+				if (patterns != null) {
+					values.add(toString(patterns.getIncludeExportPattern()));
+					values.add(toString(patterns.getIncludeBeginExportsPattern()));
+					values.add(toString(patterns.getIncludeEndExportsPattern()));
+				}
+				IParserSettings settings = ((ExtendedScannerInfo) info).getParserSettings();
+				if (settings instanceof IParserSettings2) {
+					IParserSettings2 settings2 = (IParserSettings2) settings;
+					values.add(settings.getClass());
+					values.add(settings2.shouldLimitTokensPerTranslationUnit());
+					values.add(settings2.getMaximumTokensPerTranslationUnit());
+				} else {
+					// Unknown settings can only be shared with the same instance
+					values.add(settings);
+				}
+			}
+		}
+
+		private static String toString(Pattern pattern) {
+			return pattern != null ? pattern.pattern() : null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof InfoKey && values.equals(((InfoKey) obj).values);
+		}
+
+		@Override
+		public int hashCode() {
+			return values.hashCode();
+		}
+	}
+
+	/** Distinct scanner info of the commands, only up to date while saving. */
+	private List<IExtendedScannerInfo> infos;
+	private Set<Command> commands;
 
 	private transient Map<List<String>, Command> commandMap = new HashMap<>();
 	private transient Map<String, Command> resourceMap = new HashMap<>();
+	private transient Map<InfoKey, IExtendedScannerInfo> infoPool = new HashMap<>();
+	private transient Map<String, String> stringPool = new HashMap<>();
 
 	/**
 	 * Initialize the cache of scanner info. Call this after loading this info
@@ -42,26 +108,98 @@ public class ScannerInfoCache {
 	 */
 	public void initCache() {
 		if (commands == null) {
-			commands = new ArrayList<>();
+			commands = new LinkedHashSet<>();
 		}
 
 		for (Command command : commands) {
+			command.command = intern(command.command);
+			if (command.infoId != null && infos != null && command.infoId >= 0 && command.infoId < infos.size()) {
+				command.scannerInfo = intern(infos.get(command.infoId));
+			} else {
+				command.scannerInfo = intern(command.info);
+			}
+			command.info = null;
+			command.infoId = null;
+			if (command.resourcePaths == null) {
+				command.resourcePaths = new LinkedHashSet<>();
+			}
 			commandMap.put(command.command, command);
 			for (String resourcePath : command.resourcePaths) {
 				resourceMap.put(resourcePath, command);
 			}
 		}
+		infos = null;
+	}
+
+	/**
+	 * Writes each distinct scanner info once in {@link #infos} and makes the
+	 * commands refer to it by index. Call this before saving this info using
+	 * Gson and {@link #saveDone()} afterwards.
+	 */
+	void prepareSave() {
+		// Only keep the pooled info and strings still used by a command
+		infoPool = new HashMap<>();
+		stringPool = new HashMap<>();
+		infos = new ArrayList<>();
+		Map<IExtendedScannerInfo, Integer> ids = new IdentityHashMap<>();
+		for (Command command : commands) {
+			for (String str : command.command) {
+				if (str != null) {
+					stringPool.putIfAbsent(str, str);
+				}
+			}
+			if (command.scannerInfo != null) {
+				infoPool.putIfAbsent(new InfoKey(command.scannerInfo), command.scannerInfo);
+				Integer id = ids.get(command.scannerInfo);
+				if (id == null) {
+					id = infos.size();
+					infos.add(command.scannerInfo);
+					ids.put(command.scannerInfo, id);
+				}
+				command.infoId = id;
+			} else {
+				command.infoId = null;
+			}
+		}
+	}
+
+	/**
+	 * Drops what {@link #prepareSave()} added for saving.
+	 */
+	void saveDone() {
+		infos = null;
+		for (Command command : commands) {
+			command.infoId = null;
+		}
+	}
+
+	private IExtendedScannerInfo intern(IExtendedScannerInfo info) {
+		if (info == null) {
+			return null;
+		}
+		return infoPool.computeIfAbsent(new InfoKey(info), key -> info);
+	}
+
+	private List<String> intern(List<String> commandStrings) {
+		if (commandStrings == null) {
+			return null;
+		}
+		List<String> interned = new ArrayList<>(commandStrings.size());
+		for (String str : commandStrings) {
+			interned.add(str != null ? stringPool.computeIfAbsent(str, key -> str) : null);
+		}
+		return interned;
 	}
 
 	public IExtendedScannerInfo getScannerInfo(IResource resource) {
 		String resourcePath = resource.getLocation().toOSString();
 		Command command = resourceMap.get(resourcePath);
-		return command != null ? command.info : null;
+		return command != null ? command.scannerInfo : null;
 	}
 
 	public IExtendedScannerInfo getScannerInfo(List<String> commandStrings) {
 		Command command = commandMap.get(commandStrings);
-		return command != null ? command.info : null;
+		return command != null ? command.scannerInfo : null;
 	}
 
 	public boolean hasCommand(List<String> commandStrings) {
@@ -89,17 +227,17 @@ public class ScannerInfoCache {
 
 		Command command = commandMap.get(commandStrings);
 		if (command != null) {
-			command.info = info;
+			command.scannerInfo = intern(info);
 			command.resourcePaths.add(resourcePath);
 			resourceMap.put(resourcePath, command);
 		} else {
 			command = new Command();
-			command.command = commandStrings;
-			command.info = info;
-			command.resourcePaths = new ArrayList<>();
+			command.command = intern(commandStrings);
+			command.scannerInfo = intern(info);
+			command.resourcePaths = new LinkedHashSet<>();
 			command.resourcePaths.add(resourcePath);
 			commands.add(command);
-			commandMap.put(commandStrings, command);
+			commandMap.put(command.command, command);
 			resourceMap.put(resourcePath, command);
 		}
 	}
@@ -113,7 +251,7 @@ public class ScannerInfoCache {
 		if (command == null) {
 			return false;
 		}
-		return command.resourcePaths.contains(resourcePath);
+		return resourceMap.get(resourcePath) == command;
 	}
 
 	public void addResource(List<String> commandStrings, IResource resource) {
@@ -16,6 +16,8 @@ package org.eclipse.cdt.core.errorparsers;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -60,8 +62,11 @@ public class RegexErrorPattern implements Cloneable {
 	 */
 	public static final int SEVERITY_SKIP = -1;
 	private static final String EMPTY_STR = ""; //$NON-NLS-1$
+	private static final String[] EMPTY_STR_ARRAY = new String[0];
 
 	private Pattern pattern;
+	/** Literal strings any line matching {@link #pattern} must contain */
+	private String[] requiredLiterals;
 	private String fileExpression;
 	private String lineExpression;
 	private String descriptionExpression;
@@ -92,6 +97,7 @@ public class RegexErrorPattern implements Cloneable {
 	public RegexErrorPattern(String pattern, String fileExpression, String lineExpression, String descriptionExpression,
 			String varNameExpression, int severity, boolean eat) {
 		this.pattern = Pattern.compile(pattern != null ? pattern : EMPTY_STR);
+		this.requiredLiterals = getRequiredLiterals(this.pattern.pattern());
 		this.fileExpression = fileExpression != null ? fileExpression : EMPTY_STR;
 		this.lineExpression = lineExpression != null ? lineExpression : EMPTY_STR;
 		this.descriptionExpression = descriptionExpression != null ? descriptionExpression : EMPTY_STR;
@@ -158,6 +164,7 @@ public class RegexErrorPattern implements Cloneable {
 	 */
 	public void setPattern(String pattern) {
 		this.pattern = Pattern.compile(pattern);
+		this.requiredLiterals = getRequiredLiterals(pattern);
 	}
 
 	/**
@@ -275,6 +282,14 @@ public class RegexErrorPattern implements Cloneable {
 	 * @return {@code true} if error/warning/info problem was found.
 	 */
 	public boolean processLine(String line, ErrorParserManager eoParser) {
+		// Most lines of build output do not match most patterns, rule them
+		// out cheaply before running the regular expression.
+		for (String literal : requiredLiterals) {
+			if (line.indexOf(literal) < 0) {
+				return false;
+			}
+		}
+
 		Matcher matcher = getMatcher(line);
 		if (!matcher.matches()) {
 			return false;
@@ -284,6 +299,129 @@ public class RegexErrorPattern implements Cloneable {
 		return eatProcessedLine;
 	}
 
+	/**
+	 * Finds the literal strings that appear outside of any group, character class
+	 * or alternative of the regular expression, and so must be contained in every
+	 * line the expression matches. For constructs this simple analysis does not
+	 * handle, such as embedded flags, no literals are returned.
+	 */
+	private static String[] getRequiredLiterals(String regex) {
+		List<String> literals = new ArrayList<>();
+		StringBuilder chunk = new StringBuilder();
+		int depth = 0;
+		// whether the last character of chunk is the atom just before the current character
+		boolean lastIsLiteral = false;
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			boolean precededByLiteral = lastIsLiteral;
+			lastIsLiteral = false;
+			if (c == '\\') {
+				if (++i == regex.length()) {
+					return EMPTY_STR_ARRAY;
+				}
+				char escaped = regex.charAt(i);
+				if ("0cxuNpPkQE".indexOf(escaped) >= 0) { //$NON-NLS-1$
+					// escapes spanning several characters
+					return EMPTY_STR_ARRAY;
+				}
+				if (depth == 0) {
+					if (Character.isLetterOrDigit(escaped)) {
+						// character class, boundary or back reference
+						addLiteral(literals, chunk);
+					} else {
+						chunk.append(escaped);
+						lastIsLiteral = true;
+					}
+				}
+			} else if (c == '[') {
+				i = skipCharacterClass(regex, i);
+				if (i < 0) {
+					return EMPTY_STR_ARRAY;
+				}
+				if (depth == 0) {
+					addLiteral(literals, chunk);
+				}
+			} else if (c == '(') {
+				if (depth == 0) {
+					if (regex.startsWith("(?", i) && !regex.startsWith("(?:", i)) { //$NON-NLS-1$ //$NON-NLS-2$
+						// flags or look around
+						return EMPTY_STR_ARRAY;
+					}
+					addLiteral(literals, chunk);
+				}
+				depth++;
+			} else if (c == ')') {
+				if (--depth < 0) {
+					return EMPTY_STR_ARRAY;
+				}
+			} else if (depth == 0) {
+				switch (c) {
+				case '|':
+					return EMPTY_STR_ARRAY;
+				case '?':
+				case '*':
+				case '{':
+					// the preceding character is optional
+					if (precededByLiteral) {
+						chunk.setLength(chunk.length() - 1);
+					}
+					addLiteral(literals, chunk);
+					if (c == '{') {
+						i = regex.indexOf('}', i);
+						if (i < 0) {
+							return EMPTY_STR_ARRAY;
+						}
+					}
+					break;
+				case '+':
+				case '.':
+				case '^':
+				case '$':
+					addLiteral(literals, chunk);
+					break;
+				default:
+					chunk.append(c);
+					lastIsLiteral = true;
+				}
+			}
+		}
+		addLiteral(literals, chunk);
+		return literals.toArray(new String[literals.size()]);
+	}
+
+	private static void addLiteral(List<String> literals, StringBuilder chunk) {
+		if (chunk.length() > 0) {
+			literals.add(chunk.toString());
+			chunk.setLength(0);
+		}
+	}
+
+	/**
+	 * @return index of the closing bracket of the character class starting at the given index,
+	 *         or -1 if the class is not simple enough to be skipped
+	 */
+	private static int skipCharacterClass(String regex, int start) {
+		int i = start + 1;
+		if (i < regex.length() && regex.charAt(i) == '^') {
+			i++;
+		}
+		if (i < regex.length() && regex.charAt(i) == ']') {
+			return -1;
+		}
+		for (; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == '[' || c == '&') {
+				// nested classes and intersections
+				return -1;
+			} else if (c == ']') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Register the error in {@link ErrorParserManager}.
 	 *
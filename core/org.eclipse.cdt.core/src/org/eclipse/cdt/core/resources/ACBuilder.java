@@ -20,6 +20,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,11 +38,18 @@ import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ILock;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IScopeContext;
@@ -54,14 +62,32 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 	/** @since 5.2 */ // set to true to print build events on the console in debug mode
 	protected static final boolean DEBUG_EVENTS = false;
 
+	/** Number of deferred markers created together in one workspace operation */
+	private static final int MARKER_BATCH_SIZE = 1000;
+	/** Delay in ms after which deferred markers are created, even if there are fewer than a batch */
+	private static final long MARKER_BATCH_DELAY = 1000;
+
 	private IProject currentProject;
-	private Set<IResource> resourcesToDeduplicate = new HashSet<>();
+	/** Guards pendingMarkers and pendingMarkerCount */
+	private final Object pendingMarkersLock = new Object();
+	private Map<IResource, List<PendingMarker>> pendingMarkers = new LinkedHashMap<>();
+	private int pendingMarkerCount;
+	/** Creates one batch of markers at a time, so that batches don't duplicate each other's markers */
+	private final ILock createMarkersLock = Job.getJobManager().newLock();
+	private final Job pendingMarkersJob = new Job("Create build markers") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			createPendingMarkers();
+			return Status.OK_STATUS;
+		}
+	};
 
 	/**
 	 * Constructor for ACBuilder
 	 */
 	public ACBuilder() {
 		super();
+		pendingMarkersJob.setSystem(true);
 	}
 
 	/**
@@ -102,6 +128,13 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 			attributes = marker.getAttributes(ATTRIBUTE_NAMES);
 		}
 
+		MarkerWithInfo(Map<String, Object> markerAttributes) {
+			attributes = new Object[ATTRIBUTE_NAMES.length];
+			for (int i = 0; i < ATTRIBUTE_NAMES.length; i++) {
+				attributes[i] = markerAttributes.get(ATTRIBUTE_NAMES[i]);
+			}
+		}
+
 		@Override
 		public int hashCode() {
 			return Arrays.hashCode(attributes);
@@ -124,9 +157,27 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 	}
 
 	/**
-	 * Remove duplicate error markers that may have been created by
-	 * {@link ACBuilder#addMarker(ProblemMarkerInfo)} with the
-	 * {@link ProblemMarkerInfo#isDeferDeDuplication()} flag set.
+	 * A marker whose creation has been deferred until the next batch of
+	 * markers is created.
+	 */
+	private static class PendingMarker {
+		private final String type;
+		private final String[] attributeNames;
+		private final Object[] attributeValues;
+		private final MarkerWithInfo info;
+
+		PendingMarker(String type, Map<String, Object> attributes) {
+			this.type = type;
+			this.attributeNames = attributes.keySet().toArray(new String[attributes.size()]);
+			this.attributeValues = attributes.values().toArray();
+			this.info = new MarkerWithInfo(attributes);
+		}
+	}
+
+	/**
+	 * Create the error markers deferred by {@link ACBuilder#addMarker(ProblemMarkerInfo)}
+	 * with the {@link ProblemMarkerInfo#isDeferDeDuplication()} flag set, leaving
+	 * out duplicates.
 	 *
 	 * This method will also remove other duplicate
 	 * ICModelMarker.C_MODEL_PROBLEM_MARKER markers on the resources referred to
@@ -135,35 +186,73 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 	 * @since 6.3
 	 */
 	public void deDuplicate() {
+		createPendingMarkers();
+	}
+
+	/**
+	 * Creates the pending markers in a single workspace operation. This is
+	 * done once a batch is complete, when the batch has been pending for
+	 * {@link #MARKER_BATCH_DELAY} and at the end of the build.
+	 *
+	 * The markers are not diffed against the markers of the previous build to
+	 * only touch the changed ones, as the build runners remove all problem
+	 * markers before building anyway, see BuildRunnerHelper#removeOldMarkers().
+	 * Existing markers are only looked at to leave out duplicates.
+	 */
+	private void createPendingMarkers() {
+		createMarkersLock.acquire();
+		try {
+			final Map<IResource, List<PendingMarker>> markersToCreate;
+			synchronized (pendingMarkersLock) {
+				if (pendingMarkers.isEmpty()) {
+					return;
+				}
+				markersToCreate = pendingMarkers;
+				pendingMarkers = new LinkedHashMap<>();
+				pendingMarkerCount = 0;
+				pendingMarkersJob.cancel();
+			}
+			createMarkers(markersToCreate);
+		} finally {
+			createMarkersLock.release();
+		}
+	}
+
+	private void createMarkers(final Map<IResource, List<PendingMarker>> markersToCreate) {
 		/*
-		 * In practice it is actually faster to create all the markers and then
-		 * remove duplicates than try to search on each marker creation if the
-		 * marker already exists. This code is faster because it makes one pass
-		 * through the markers, instead of one pass for each new marker. As
-		 * getting attributes for makers is very expensive, only having to fetch
-		 * marker attributes once per marker speeds things up considerably.
+		 * Getting attributes for markers is very expensive, so rather than
+		 * searching for an existing marker each time a marker is added, the
+		 * markers of each resource are fetched once per batch. This also
+		 * removes duplicates that were already there, e.g. created by an
+		 * earlier batch.
 		 */
-		for (IResource resource : resourcesToDeduplicate) {
-			try {
-				IMarker[] markers = resource.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true,
-						IResource.DEPTH_ZERO);
-				List<IMarker> dups = new ArrayList<>(markers.length);
-				Set<MarkerWithInfo> unique = new HashSet<>(markers.length);
-				for (IMarker marker : markers) {
-					MarkerWithInfo info = new MarkerWithInfo(marker);
-					if (!unique.add(info)) {
-						dups.add(marker);
+		try {
+			ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+				for (Entry<IResource, List<PendingMarker>> entry : markersToCreate.entrySet()) {
+					IResource resource = entry.getKey();
+					try {
+						IMarker[] markers = resource.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true,
+								IResource.DEPTH_ZERO);
+						Set<MarkerWithInfo> unique = new HashSet<>(markers.length + entry.getValue().size());
+						for (IMarker marker : markers) {
+							if (!unique.add(new MarkerWithInfo(marker))) {
+								marker.delete();
+							}
+						}
+						for (PendingMarker pending : entry.getValue()) {
+							if (unique.add(pending.info)) {
+								IMarker marker = resource.createMarker(pending.type);
+								marker.setAttributes(pending.attributeNames, pending.attributeValues);
+							}
+						}
+					} catch (CoreException e) {
+						CCorePlugin.log(e.getStatus());
 					}
 				}
-				for (IMarker marker : dups) {
-					marker.delete();
-				}
-			} catch (CoreException e) {
-				CCorePlugin.log(e.getStatus());
-			}
+			}, null, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			CCorePlugin.log(e.getStatus());
 		}
-
-		resourcesToDeduplicate = new HashSet<>();
 	}
 
 	/**
@@ -182,75 +271,99 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 				externalLocation = problemMarkerInfo.externalPath.toOSString();
 			}
 
-			if (!problemMarkerInfo.isDeferDeDuplication()) {
-				// Try to find matching markers and don't put in duplicates
-				IMarker[] markers = markerResource.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true,
-						IResource.DEPTH_ONE);
-				for (IMarker m : markers) {
-					int line = m.getAttribute(IMarker.LINE_NUMBER, -1);
-					int sev = m.getAttribute(IMarker.SEVERITY, -1);
-					String msg = (String) m.getAttribute(IMarker.MESSAGE);
-					if (line == problemMarkerInfo.lineNumber && sev == mapMarkerSeverity(problemMarkerInfo.severity)
-							&& msg.equals(problemMarkerInfo.description)) {
-						String extloc = (String) m.getAttribute(ICModelMarker.C_MODEL_MARKER_EXTERNAL_LOCATION);
-						if (extloc == externalLocation || (extloc != null && extloc.equals(externalLocation))) {
-							if (project == null || project.equals(markerResource.getProject())) {
-								return;
-							}
-							String source = (String) m.getAttribute(IMarker.SOURCE_ID);
-							if (project.getName().equals(source)) {
-								return;
-							}
-						}
-					}
-				}
-			} else {
-				resourcesToDeduplicate.add(markerResource);
-			}
-
 			String type = problemMarkerInfo.getType();
 			if (type == null) {
 				type = ICModelMarker.C_MODEL_PROBLEM_MARKER;
 			}
 
-			IMarker marker = markerResource.createMarker(type);
-			marker.setAttribute(IMarker.MESSAGE, problemMarkerInfo.description);
-			marker.setAttribute(IMarker.SEVERITY, mapMarkerSeverity(problemMarkerInfo.severity));
-			marker.setAttribute(IMarker.LINE_NUMBER, problemMarkerInfo.lineNumber);
-			marker.setAttribute(IMarker.CHAR_START, problemMarkerInfo.startChar);
-			marker.setAttribute(IMarker.CHAR_END, problemMarkerInfo.endChar);
-			if (problemMarkerInfo.variableName != null) {
-				marker.setAttribute(ICModelMarker.C_MODEL_MARKER_VARIABLE, problemMarkerInfo.variableName);
-			}
-			if (externalLocation != null) {
-				URI uri = URIUtil.toURI(externalLocation);
-				if (uri.getScheme() != null) {
-					marker.setAttribute(ICModelMarker.C_MODEL_MARKER_EXTERNAL_LOCATION, externalLocation);
-					String locationText = NLS.bind(CCorePlugin.getResourceString("ACBuilder.ProblemsView.Location"), //$NON-NLS-1$
-							problemMarkerInfo.lineNumber, externalLocation);
-					marker.setAttribute(IMarker.LOCATION, locationText);
+			Map<String, Object> attributes = getMarkerAttributes(problemMarkerInfo, project, markerResource,
+					externalLocation);
+
+			if (problemMarkerInfo.isDeferDeDuplication()) {
+				synchronized (pendingMarkersLock) {
+					List<PendingMarker> markers = pendingMarkers.get(markerResource);
+					if (markers == null) {
+						markers = new ArrayList<>();
+						pendingMarkers.put(markerResource, markers);
+					}
+					markers.add(new PendingMarker(type, attributes));
+					if (++pendingMarkerCount < MARKER_BATCH_SIZE) {
+						if (pendingMarkerCount == 1) {
+							pendingMarkersJob.schedule(MARKER_BATCH_DELAY);
+						}
+						return;
+					}
 				}
-			} else if (problemMarkerInfo.lineNumber == 0) {
-				marker.setAttribute(IMarker.LOCATION, " "); //$NON-NLS-1$
-			}
-			// Set source attribute only if the marker is being set to a file from different project
-			if (project != null && !project.equals(markerResource.getProject())) {
-				marker.setAttribute(IMarker.SOURCE_ID, project.getName());
+				createPendingMarkers();
+				return;
 			}
 
-			// Add all other client defined attributes.
-			Map<String, String> attributes = problemMarkerInfo.getAttributes();
-			if (attributes != null) {
-				for (Entry<String, String> entry : attributes.entrySet()) {
-					marker.setAttribute(entry.getKey(), entry.getValue());
+			// Try to find matching markers and don't put in duplicates
+			IMarker[] markers = markerResource.findMarkers(ICModelMarker.C_MODEL_PROBLEM_MARKER, true,
+					IResource.DEPTH_ONE);
+			for (IMarker m : markers) {
+				int line = m.getAttribute(IMarker.LINE_NUMBER, -1);
+				int sev = m.getAttribute(IMarker.SEVERITY, -1);
+				String msg = (String) m.getAttribute(IMarker.MESSAGE);
+				if (line == problemMarkerInfo.lineNumber && sev == mapMarkerSeverity(problemMarkerInfo.severity)
+						&& msg.equals(problemMarkerInfo.description)) {
+					String extloc = (String) m.getAttribute(ICModelMarker.C_MODEL_MARKER_EXTERNAL_LOCATION);
+					if (extloc == externalLocation || (extloc != null && extloc.equals(externalLocation))) {
+						if (project == null || project.equals(markerResource.getProject())) {
+							return;
+						}
+						String source = (String) m.getAttribute(IMarker.SOURCE_ID);
+						if (project.getName().equals(source)) {
+							return;
+						}
+					}
 				}
 			}
+
+			IMarker marker = markerResource.createMarker(type);
+			marker.setAttributes(attributes.keySet().toArray(new String[attributes.size()]),
+					attributes.values().toArray());
 		} catch (CoreException e) {
 			CCorePlugin.log(e.getStatus());
 		}
 
 	}
 
+	private Map<String, Object> getMarkerAttributes(ProblemMarkerInfo problemMarkerInfo, IProject project,
+			IResource markerResource, String externalLocation) {
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		attributes.put(IMarker.MESSAGE, problemMarkerInfo.description);
+		attributes.put(IMarker.SEVERITY, mapMarkerSeverity(problemMarkerInfo.severity));
+		attributes.put(IMarker.LINE_NUMBER, problemMarkerInfo.lineNumber);
+		attributes.put(IMarker.CHAR_START, problemMarkerInfo.startChar);
+		attributes.put(IMarker.CHAR_END, problemMarkerInfo.endChar);
+		if (problemMarkerInfo.variableName != null) {
+			attributes.put(ICModelMarker.C_MODEL_MARKER_VARIABLE, problemMarkerInfo.variableName);
+		}
+		if (externalLocation != null) {
+			URI uri = URIUtil.toURI(externalLocation);
+			if (uri.getScheme() != null) {
+				attributes.put(ICModelMarker.C_MODEL_MARKER_EXTERNAL_LOCATION, externalLocation);
+				String locationText = NLS.bind(CCorePlugin.getResourceString("ACBuilder.ProblemsView.Location"), //$NON-NLS-1$
+						problemMarkerInfo.lineNumber, externalLocation);
+				attributes.put(IMarker.LOCATION, locationText);
+			}
+		} else if (problemMarkerInfo.lineNumber == 0) {
+			attributes.put(IMarker.LOCATION, " "); //$NON-NLS-1$
+		}
+		// Set source attribute only if the marker is being set to a file from different project
+		if (project != null && !project.equals(markerResource.getProject())) {
+			attributes.put(IMarker.SOURCE_ID, project.getName());
+		}
+
+		// Add all other client defined attributes.
+		Map<String, String> clientAttributes = problemMarkerInfo.getAttributes();
+		if (clientAttributes != null) {
+			attributes.putAll(clientAttributes);
+		}
+		return attributes;
+	}
+
 	private int mapMarkerSeverity(int severity) {
 		switch (severity) {
 		case SEVERITY_ERROR_BUILD:
@@ -294,6 +407,26 @@ public abstract class ACBuilder extends IncrementalProjectBuilder implements IMa
 		prefs.putBoolean(CCorePreferenceConstants.PREF_BUILD_CONFIGS_RESOURCE_CHANGES, enable);
 	}
 
+	/**
+	 * Preference for skipping the build steps whose inputs and commands have not changed since they
+	 * were last built. When disabled, touching an input is enough to rebuild the steps using it.
+	 * @return true if unchanged build steps are skipped, false otherwise
+	 * @since 6.11
+	 */
+	public static boolean skipUnchangedBuildSteps() {
+		return getPreference(CCorePreferenceConstants.PREF_BUILD_SKIP_UNCHANGED_STEPS, true);
+	}
+
+	/**
+	 * Preference for skipping the build steps whose inputs and commands have not changed since they
+	 * were last built.
+	 * @param enable
+	 * @since 6.11
+	 */
+	public static void setSkipUnchangedBuildSteps(boolean enable) {
+		prefs.putBoolean(CCorePreferenceConstants.PREF_BUILD_SKIP_UNCHANGED_STEPS, enable);
+	}
+
 	private static boolean getPreference(String preferenceName, boolean defaultValue) {
 		IScopeContext[] contexts = { InstanceScope.INSTANCE, // for preference page
 				DefaultScope.INSTANCE // for product customization
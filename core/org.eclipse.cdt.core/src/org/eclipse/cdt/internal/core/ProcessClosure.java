@@ -105,6 +105,28 @@ public class ProcessClosure {
 		}
 	}
 
+	/**
+	 * Reader thread which notifies the completion listener when done.
+	 */
+	private class CompletionReaderThread extends ReaderThread {
+
+		public CompletionReaderThread(ThreadGroup group, String name, InputStream in, OutputStream out) {
+			super(group, name, in, out);
+		}
+
+		@Override
+		public void run() {
+			try {
+				super.run();
+			} finally {
+				Runnable listener = fCompletionListener;
+				if (listener != null) {
+					listener.run();
+				}
+			}
+		}
+	}
+
 	protected static int fCounter = 0;
 
 	protected Process fProcess;
@@ -115,6 +137,8 @@ public class ProcessClosure {
 	protected ReaderThread fOutputReader;
 	protected ReaderThread fErrorReader;
 
+	private volatile Runnable fCompletionListener;
+
 	/**
 	 * Creates a process closure and connects the launched process with a
 	 * console document.
@@ -140,13 +164,23 @@ public class ProcessClosure {
 		InputStream stdin = fProcess.getInputStream();
 		InputStream stderr = fProcess.getErrorStream();
 
-		fOutputReader = new ReaderThread(group, "OutputReader", stdin, fOutput); //$NON-NLS-1$
-		fErrorReader = new ReaderThread(group, "ErrorReader", stderr, fError); //$NON-NLS-1$
+		fOutputReader = new CompletionReaderThread(group, "OutputReader", stdin, fOutput); //$NON-NLS-1$
+		fErrorReader = new CompletionReaderThread(group, "ErrorReader", stderr, fError); //$NON-NLS-1$
 
 		fOutputReader.start();
 		fErrorReader.start();
 	}
 
+	/**
+	 * Sets a listener notified each time one of the reader threads has
+	 * finished, so that callers can wait for the process instead of polling
+	 * {@link #isRunning()}. The listener is called from the reader thread.
+	 * Must be set before {@link #runNonBlocking()}.
+	 */
+	public void setCompletionListener(Runnable listener) {
+		fCompletionListener = listener;
+	}
+
 	public void runBlocking() {
 		runNonBlocking();
 
@@ -205,7 +239,9 @@ public class ProcessClosure {
 	 */
 	public boolean isRunning() {
 		if (fProcess != null) {
-			if (fOutputReader.isAlive() || fErrorReader.isAlive()) {
+			// Check the finished flags rather than the threads, so that
+			// the state is up to date when the completion listener runs
+			if (!fOutputReader.finished() || !fErrorReader.finished()) {
 				return true;
 			}
 			fProcess = null;
@@ -18,6 +18,7 @@ public class Messages extends NLS {
 	public static String CBuildConfiguration_ToolchainMissing;
 	public static String CBuildConfiguration_Location;
 	public static String CBuildConfiguration_RunningScannerInfo;
+	public static String CBuildConfiguration_ScannerInfoJobGroup;
 	public static String CBuilder_ExceptionWhileBuilding;
 	public static String CBuilder_ExceptionWhileBuilding2;
 	public static String CBuilder_NotConfiguredCorrectly;
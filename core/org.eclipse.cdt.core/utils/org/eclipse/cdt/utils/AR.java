@@ -18,6 +18,7 @@ package org.eclipse.cdt.utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.util.Vector;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -35,6 +36,8 @@ public class AR {
 	protected String filename;
 	protected ERandomAccessFile efile;
 	protected long strtbl_pos = -1;
+	/** Contents of the string table of the long member names, read at once. */
+	private byte[] strtbl;
 	private ARHeader[] headers;
 
 	public void dispose() {
@@ -106,6 +109,17 @@ public class AR {
 		 *    <code>offset</code> not in string table bounds.
 		 */
 		private String nameFromStringTable(long offset) throws IOException {
+			if (strtbl != null) {
+				if (offset < 0 || offset >= strtbl.length) {
+					throw new IOException();
+				}
+				int end = (int) offset;
+				while (end < strtbl.length && strtbl[end] != '\n') {
+					end++;
+				}
+				return new String(strtbl, (int) offset, end - (int) offset, StandardCharsets.ISO_8859_1);
+			}
+
 			StringBuilder name = new StringBuilder(0);
 			long pos = efile.getFilePointer();
 
@@ -248,14 +262,16 @@ public class AR {
 
 		Vector<ARHeader> v = new Vector<>();
 		try {
+			final long length = efile.length();
+			long pos = efile.getFilePointer();
 			//
 			// Check for EOF condition
 			//
-			while (efile.getFilePointer() < efile.length()) {
+			while (pos < length) {
 				ARHeader header = new ARHeader();
 				String name = header.getObjectName();
 
-				long pos = efile.getFilePointer();
+				pos = header.getObjectDataOffset();
 
 				//
 				// If the name starts with a / it is specical.
@@ -266,8 +282,16 @@ public class AR {
 				//
 				// If the name is "//" then this is the string table section.
 				//
-				if (name.compareTo("//") == 0) //$NON-NLS-1$
+				if (name.compareTo("//") == 0) { //$NON-NLS-1$
 					strtbl_pos = pos;
+					// Read it at once, archives of thousands of members with
+					// long names would otherwise read their names byte by byte.
+					if (header.getSize() > 0 && header.getSize() <= length - pos) {
+						byte[] table = new byte[(int) header.getSize()];
+						efile.readFully(table);
+						strtbl = table;
+					}
+				}
 
 				//
 				// Compute the location of the next header in the archive.
@@ -18,6 +18,8 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +32,9 @@ public class Addr2line {
 	private BufferedReader stdout;
 	private BufferedWriter stdin;
 	private String lastaddr, lastsymbol, lastline;
+	/** Output of the last batch of addresses resolved by {@link #prefetch(IAddress[])}, not requested yet. */
+	private final Map<String, String[]> prefetched = new HashMap<>();
+	private static final int PREFETCH_CHUNK_SIZE = 128;
 	private static final Pattern OUTPUT_PATTERN = Pattern.compile("(.*)( \\(discriminator.*\\))"); //$NON-NLS-1$
 	//private boolean isDisposed = false;
 
@@ -60,14 +65,53 @@ public class Addr2line {
 
 	protected void getOutput(String address) throws IOException {
 		if (address.equals(lastaddr) == false) {
-			stdin.write(address + "\n"); //$NON-NLS-1$
-			stdin.flush();
-			lastsymbol = stdout.readLine();
-			lastline = stdout.readLine();
+			String[] output = prefetched.remove(address);
+			if (output != null) {
+				lastsymbol = output[0];
+				lastline = output[1];
+			} else {
+				stdin.write(address + "\n"); //$NON-NLS-1$
+				stdin.flush();
+				lastsymbol = stdout.readLine();
+				lastline = stdout.readLine();
+			}
 			lastaddr = address;
 		}
 	}
 
+	/**
+	 * Resolves the given addresses in a single exchange with the addr2line
+	 * process, rather than waiting for the answer to each address before
+	 * sending the next one. The results are kept until the addresses are
+	 * requested or the next batch of addresses is prefetched.
+	 *
+	 * @since 6.11
+	 */
+	public void prefetch(IAddress[] addresses) throws IOException {
+		// Drop what is left of the previous batch, rather than keeping the
+		// output of every address prefetched so far
+		prefetched.clear();
+		// Write in chunks small enough for the pipe buffer, so that writing
+		// cannot block while addr2line waits for its output to be read.
+		for (int first = 0; first < addresses.length; first += PREFETCH_CHUNK_SIZE) {
+			int count = Math.min(PREFETCH_CHUNK_SIZE, addresses.length - first);
+			String[] chunk = new String[count];
+			for (int i = 0; i < count; i++) {
+				chunk[i] = addresses[first + i].toString(16);
+				stdin.write(chunk[i] + "\n"); //$NON-NLS-1$
+			}
+			stdin.flush();
+			for (String address : chunk) {
+				String symbol = stdout.readLine();
+				String line = stdout.readLine();
+				if (line == null) {
+					throw new IOException();
+				}
+				prefetched.put(address, new String[] { symbol, line });
+			}
+		}
+	}
+
 	public String getLine(IAddress address) throws IOException {
 		getOutput(address.toString(16));
 		return lastline;
@@ -136,6 +180,7 @@ public class Addr2line {
 	}
 
 	public void dispose() {
+		prefetched.clear();
 		try {
 			stdout.close();
 			stdin.close();
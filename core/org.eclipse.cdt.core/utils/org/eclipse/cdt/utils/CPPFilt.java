@@ -25,6 +25,9 @@ import org.eclipse.cdt.utils.spawner.ProcessFactory;
  * @noextend This class is not intended to be subclassed by clients.
  */
 public class CPPFilt {
+	/** Number of characters written at once by {@link #getFunctions(String[])}. */
+	private static final int CHUNK_SIZE = 4096;
+
 	private String[] args;
 	private Process cppfilt;
 	private BufferedReader stdout;
@@ -66,6 +69,39 @@ public class CPPFilt {
 		throw new IOException();
 	}
 
+	/**
+	 * Demangles the given symbols in a single exchange with the c++filt
+	 * process, rather than waiting for each symbol before sending the next one.
+	 *
+	 * @return the demangled symbols, in the same order
+	 * @since 6.11
+	 */
+	public String[] getFunctions(String[] symbols) throws IOException {
+		String[] functions = new String[symbols.length];
+		// Write in chunks small enough for the pipe buffer, so that writing
+		// cannot block while c++filt waits for its output to be read.
+		int first = 0;
+		while (first < symbols.length) {
+			int end = first;
+			int chars = 0;
+			while (end < symbols.length && (end == first || chars + symbols[end].length() < CHUNK_SIZE)) {
+				stdin.write(symbols[end] + "\n"); //$NON-NLS-1$
+				chars += symbols[end].length() + 1;
+				end++;
+			}
+			stdin.flush();
+			for (int i = first; i < end; i++) {
+				String str = stdout.readLine();
+				if (str == null) {
+					throw new IOException();
+				}
+				functions[i] = str.trim();
+			}
+			first = end;
+		}
+		return functions;
+	}
+
 	public void dispose() {
 		try {
 			//stdin.write(-1);
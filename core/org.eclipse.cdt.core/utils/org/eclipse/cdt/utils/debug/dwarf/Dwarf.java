@@ -604,10 +604,21 @@ public class Dwarf {
 					//break;
 				}
 				processDebugInfoEntry(requestor, entry, list);
+				if (isCompileUnitEntryOnly()) {
+					return;
+				}
 			}
 		}
 	}
 
+	/**
+	 * Whether only the first entry of each compilation unit, the
+	 * DW_TAG_compile_unit, is parsed and the other entries are skipped.
+	 */
+	boolean isCompileUnitEntryOnly() {
+		return false;
+	}
+
 	int oldForm = 0;
 
 	Object readAttribute(int form, ByteBuffer in, CompilationUnitHeader header) throws IOException {
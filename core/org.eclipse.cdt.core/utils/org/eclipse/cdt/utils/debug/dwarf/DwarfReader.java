@@ -62,7 +62,7 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 	private String[] m_fileNames = null;
 	private boolean m_parsed = false;
 	private boolean m_macros_parsed = false;
-	private final ArrayList<Integer> m_parsedLineTableOffsets = new ArrayList<>();
+	private final Set<Integer> m_parsedLineTableOffsets = new HashSet<>();
 	private long m_parsedLineTableSize = 0;
 
 	public DwarfReader(String file) throws IOException {
@@ -587,12 +587,19 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		// is different from java.io.File.getCanonicalPath()).
 		fullName = pa.toOSString();
 
-		if (!m_fileCollection.contains(fullName))
-			m_fileCollection.add(fullName);
+		m_fileCollection.add(fullName);
 
 		return fullName;
 	}
 
+	// Override parent: only read the first entry of the CU, which is the
+	// TAG_Compile_Unit. Reading all the attributes of all the other entries
+	// dominates the parsing time of large binaries while they are ignored.
+	@Override
+	boolean isCompileUnitEntryOnly() {
+		return true;
+	}
+
 	// Override parent: only handle TAG_Compile_Unit.
 	@Override
 	void processDebugInfoEntry(IDebugEntryRequestor requestor, AbbreviationEntry entry,
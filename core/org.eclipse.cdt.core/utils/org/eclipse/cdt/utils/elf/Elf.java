@@ -21,10 +21,14 @@ import static org.eclipse.cdt.internal.core.ByteUtils.makeShort;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.IAddress;
@@ -57,6 +61,10 @@ public class Elf {
 	private Symbol[] dynsym_symbols;
 	private Section dynsym_sym;
 	private boolean sections_mapped; // Have sections been mapped? Used to clean up properly in Elf.Dispose.
+	private final Map<Section, byte[]> string_tables = new HashMap<>();
+
+	/** Number of bytes of a symbol table read at once. */
+	private static final int SYMBOL_CHUNK_SIZE = 1024 * 1024;
 
 	protected String EMPTY_STRING = ""; //$NON-NLS-1$
 
@@ -384,26 +392,58 @@ public class Elf {
 			return EMPTY_STRING;
 		}
 
-		section.makeSureNotCompressed();
-		StringBuilder str = new StringBuilder();
-		//Most string symbols will be less than 50 bytes in size
-		byte[] tmp = new byte[50];
-		efile.seek(section.sh_offset + index);
-		while (true) {
-			int len = efile.read(tmp);
-			for (int i = 0; i < len; i++) {
-				if (tmp[i] == 0) {
-					len = 0;
-					break;
-				}
-				str.append((char) tmp[i]);
-			}
-			if (len <= 0) {
-				break;
-			}
+		// Load the whole string table once, resolving the names of all the
+		// symbols one small read at a time is very slow for large tables.
+		byte[] table = string_tables.get(section);
+		if (table == null) {
+			section.makeSureNotCompressed();
+			// Only read what is there of a truncated or corrupt table
+			long available = Math.max(0, efile.length() - section.sh_offset);
+			table = readBytes(section.sh_offset, (int) Math.min(section.sh_size, available));
+			string_tables.put(section, table);
+		}
+		if (index >= table.length) {
+			return EMPTY_STRING;
 		}
+		int end = index;
+		while (end < table.length && table[end] != 0) {
+			end++;
+		}
+		return new String(table, index, end - index, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Reads a region of the file with a single read.
+	 */
+	private byte[] readBytes(long offset, int size) throws IOException {
+		byte[] data = new byte[size];
+		efile.seek(offset);
+		efile.readFully(data);
+		return data;
+	}
 
-		return str.toString();
+	/**
+	 * Reads a region of the file with a single read, for decoding a table of
+	 * fixed size entries without a read per field.
+	 */
+	private ByteBuffer readBuffer(long offset, int size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(readBytes(offset, size));
+		buffer.order(ehdr.e_ident[ELFhdr.EI_DATA] == ELFhdr.ELFDATA2LSB ? ByteOrder.LITTLE_ENDIAN
+				: ByteOrder.BIG_ENDIAN);
+		return buffer;
+	}
+
+	private static long getUnsignedInt(ByteBuffer buffer) {
+		return buffer.getInt() & 0xffffffffL;
+	}
+
+	private static long getUnsignedLong(ByteBuffer buffer) throws IOException {
+		long result = buffer.getLong();
+		if (result < 0) {
+			throw new IOException("Maximal file offset is " + Long.toHexString(Long.MAX_VALUE) + //$NON-NLS-1$
+					" given offset is " + Long.toHexString(result)); //$NON-NLS-1$
+		}
+		return result;
 	}
 
 	public class Symbol implements Comparable<Object> {
@@ -972,6 +1012,7 @@ public class Elf {
 			if (efile != null) {
 				efile.close();
 				efile = null;
+				string_tables.clear();
 
 				// ensure the mappings get cleaned up
 				if (sections_mapped)
@@ -1022,47 +1063,35 @@ public class Elf {
 				return sections;
 			}
 			final int length = ehdr.e_shnum & 0xffff; // unsigned short
+			final int entsize = ehdr.e_shentsize & 0xffff; // unsigned short
+			final ByteBuffer table = readBuffer(ehdr.e_shoff, length * entsize);
 			sections = new Section[length];
 			for (int i = 0; i < length; i++) {
-				efile.seek(ehdr.e_shoff + i * (ehdr.e_shentsize & 0xffff)); // unsigned short
+				table.position(i * entsize);
 				sections[i] = new Section();
-				sections[i].sh_name = efile.readIntE();
-				sections[i].sh_type = efile.readIntE();
+				sections[i].sh_name = getUnsignedInt(table);
+				sections[i].sh_type = getUnsignedInt(table);
 				switch (ehdr.e_ident[ELFhdr.EI_CLASS]) {
 				case ELFhdr.ELFCLASS32: {
-					byte[] addrArray = new byte[ELF32_ADDR_SIZE];
-					sections[i].sh_flags = efile.readIntE();
-					efile.readFullyE(addrArray);
-					sections[i].sh_addr = new Addr32(addrArray);
-					sections[i].sh_offset = efile.readIntE();
-					sections[i].sh_size = efile.readIntE();
+					sections[i].sh_flags = getUnsignedInt(table);
+					sections[i].sh_addr = new Addr32(getUnsignedInt(table));
+					sections[i].sh_offset = getUnsignedInt(table);
+					sections[i].sh_size = getUnsignedInt(table);
+					sections[i].sh_link = getUnsignedInt(table);
+					sections[i].sh_info = getUnsignedInt(table);
+					sections[i].sh_addralign = getUnsignedInt(table);
+					sections[i].sh_entsize = getUnsignedInt(table);
 				}
 					break;
 				case ELFhdr.ELFCLASS64: {
-					byte[] addrArray = new byte[ELF64_ADDR_SIZE];
-					sections[i].sh_flags = efile.readLongE();
-					efile.readFullyE(addrArray);
-					sections[i].sh_addr = new Addr64(addrArray);
-					sections[i].sh_offset = readUnsignedLong(efile);
-					sections[i].sh_size = readUnsignedLong(efile);
-				}
-					break;
-				case ELFhdr.ELFCLASSNONE:
-				default:
-					throw new IOException("Unknown ELF class " + ehdr.e_ident[ELFhdr.EI_CLASS]); //$NON-NLS-1$
-				}
-
-				sections[i].sh_link = efile.readIntE();
-				sections[i].sh_info = efile.readIntE();
-				switch (ehdr.e_ident[ELFhdr.EI_CLASS]) {
-				case ELFhdr.ELFCLASS32: {
-					sections[i].sh_addralign = efile.readIntE();
-					sections[i].sh_entsize = efile.readIntE();
-				}
-					break;
-				case ELFhdr.ELFCLASS64: {
-					sections[i].sh_addralign = efile.readLongE();
-					sections[i].sh_entsize = readUnsignedLong(efile);
+					sections[i].sh_flags = table.getLong();
+					sections[i].sh_addr = new Addr64(table.getLong());
+					sections[i].sh_offset = getUnsignedLong(table);
+					sections[i].sh_size = getUnsignedLong(table);
+					sections[i].sh_link = getUnsignedInt(table);
+					sections[i].sh_info = getUnsignedInt(table);
+					sections[i].sh_addralign = table.getLong();
+					sections[i].sh_entsize = getUnsignedLong(table);
 				}
 					break;
 				case ELFhdr.ELFCLASSNONE:
@@ -1085,42 +1114,43 @@ public class Elf {
 		}
 		section.makeSureNotCompressed();
 		ArrayList<Symbol> symList = new ArrayList<>(numSyms);
-		long offset = section.sh_offset;
-		for (int c = 0; c < numSyms; offset += section.sh_entsize, c++) {
-			efile.seek(offset);
-			Symbol symbol = new Symbol(section);
-			switch (ehdr.e_ident[ELFhdr.EI_CLASS]) {
-			case ELFhdr.ELFCLASS32: {
-				byte[] addrArray = new byte[ELF32_ADDR_SIZE];
-
-				symbol.st_name = efile.readIntE();
-				efile.readFullyE(addrArray);
-				symbol.st_value = new Addr32(addrArray);
-				symbol.st_size = efile.readIntE();
-				symbol.st_info = efile.readByte();
-				symbol.st_other = efile.readByte();
-				symbol.st_shndx = efile.readShortE();
-			}
-				break;
-			case ELFhdr.ELFCLASS64: {
-				byte[] addrArray = new byte[ELF64_ADDR_SIZE];
-
-				symbol.st_name = efile.readIntE();
-				symbol.st_info = efile.readByte();
-				symbol.st_other = efile.readByte();
-				symbol.st_shndx = efile.readShortE();
-				efile.readFullyE(addrArray);
-				symbol.st_value = new Addr64(addrArray);
-				symbol.st_size = readUnsignedLong(efile);
-			}
-				break;
-			case ELFhdr.ELFCLASSNONE:
-			default:
-				throw new IOException("Unknown ELF class " + ehdr.e_ident[ELFhdr.EI_CLASS]); //$NON-NLS-1$
+		// Read the table in chunks rather than field by field, each field read
+		// being a system call.
+		final int entsize = Math.max((int) section.sh_entsize, 1);
+		final int chunkSyms = Math.max(SYMBOL_CHUNK_SIZE / entsize, 1);
+		for (int first = 0; first < numSyms; first += chunkSyms) {
+			int count = Math.min(chunkSyms, numSyms - first);
+			ByteBuffer table = readBuffer(section.sh_offset + (long) first * entsize, count * entsize);
+			for (int c = 0; c < count; c++) {
+				table.position(c * entsize);
+				Symbol symbol = new Symbol(section);
+				switch (ehdr.e_ident[ELFhdr.EI_CLASS]) {
+				case ELFhdr.ELFCLASS32: {
+					symbol.st_name = getUnsignedInt(table);
+					symbol.st_value = new Addr32(getUnsignedInt(table));
+					symbol.st_size = getUnsignedInt(table);
+					symbol.st_info = table.get();
+					symbol.st_other = table.get();
+					symbol.st_shndx = table.getShort();
+				}
+					break;
+				case ELFhdr.ELFCLASS64: {
+					symbol.st_name = getUnsignedInt(table);
+					symbol.st_info = table.get();
+					symbol.st_other = table.get();
+					symbol.st_shndx = table.getShort();
+					symbol.st_value = new Addr64(table.getLong());
+					symbol.st_size = getUnsignedLong(table);
+				}
+					break;
+				case ELFhdr.ELFCLASSNONE:
+				default:
+					throw new IOException("Unknown ELF class " + ehdr.e_ident[ELFhdr.EI_CLASS]); //$NON-NLS-1$
+				}
+				if (symbol.st_info == 0)
+					continue;
+				symList.add(symbol);
 			}
-			if (symbol.st_info == 0)
-				continue;
-			symList.add(symbol);
 		}
 		Symbol[] results = symList.toArray(new Symbol[0]);
 		Arrays.sort(results);
@@ -36,6 +36,8 @@ import org.eclipse.core.runtime.Path;
  */
 public class GNUElfBinaryObject extends ElfBinaryObject {
 
+	private static final int SYMBOL_BATCH_SIZE = 64;
+
 	private Addr2line autoDisposeAddr2line;
 	private Addr2line symbolLoadingAddr2line;
 	private CPPFilt symbolLoadingCPPFilt;
@@ -162,36 +164,61 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 
 	@Override
 	protected void addSymbols(Elf.Symbol[] array, int type, List<Symbol> list) {
-		for (org.eclipse.cdt.utils.elf.Elf.Symbol element : array) {
-			String name = element.toString();
+		// Send the symbols to c++filt and addr2line in batches, waiting for the
+		// answer to each symbol before sending the next one is very slow.
+		for (int first = 0; first < array.length; first += SYMBOL_BATCH_SIZE) {
+			int count = Math.min(SYMBOL_BATCH_SIZE, array.length - first);
+			String[] names = new String[count];
+			for (int i = 0; i < count; i++) {
+				names[i] = array[first + i].toString();
+			}
 			if (symbolLoadingCPPFilt != null) {
 				try {
-					name = symbolLoadingCPPFilt.getFunction(name);
+					names = symbolLoadingCPPFilt.getFunctions(names);
 				} catch (IOException e1) {
 					symbolLoadingCPPFilt.dispose();
 					symbolLoadingCPPFilt = null;
 				}
 			}
-			IAddress addr = element.st_value;
-			long size = element.st_size;
 			if (symbolLoadingAddr2line != null) {
+				IAddress[] addresses = new IAddress[count * 2];
+				for (int i = 0; i < count; i++) {
+					addresses[2 * i] = array[first + i].st_value;
+					addresses[2 * i + 1] = array[first + i].st_value.add(array[first + i].st_size - 1);
+				}
 				try {
-					String filename = symbolLoadingAddr2line.getFileName(addr);
-					// Addr2line returns the funny "??" when it can not find
-					// the file.
-					IPath file = (filename != null && !filename.equals("??")) ? new Path(filename) : Path.EMPTY; //$NON-NLS-1$
-					int startLine = symbolLoadingAddr2line.getLineNumber(addr);
-					int endLine = symbolLoadingAddr2line.getLineNumber(addr.add(size - 1));
-					list.add(new GNUSymbol(this, name, type, addr, size, file, startLine, endLine));
+					symbolLoadingAddr2line.prefetch(addresses);
 				} catch (IOException e) {
 					symbolLoadingAddr2line.dispose();
 					symbolLoadingAddr2line = null;
-					// the symbol still needs to be added
-					list.add(new GNUSymbol(this, name, type, addr, size));
 				}
-			} else {
+			}
+			for (int i = 0; i < count; i++) {
+				addSymbol(array[first + i], names[i], type, list);
+			}
+		}
+	}
+
+	private void addSymbol(Elf.Symbol element, String name, int type, List<Symbol> list) {
+		IAddress addr = element.st_value;
+		long size = element.st_size;
+		if (symbolLoadingAddr2line != null) {
+			try {
+				String filename = symbolLoadingAddr2line.getFileName(addr);
+				// Addr2line returns the funny "??" when it can not find
+				// the file.
+				IPath file = (filename != null && !filename.equals("??")) ? new Path(filename) : Path.EMPTY; //$NON-NLS-1$
+				int startLine = symbolLoadingAddr2line.getLineNumber(addr);
+				int endLine = symbolLoadingAddr2line.getLineNumber(addr.add(size - 1));
+				list.add(new GNUSymbol(this, name, type, addr, size, file, startLine, endLine));
+			} catch (IOException e) {
+				symbolLoadingAddr2line.dispose();
+				symbolLoadingAddr2line = null;
+				// the symbol still needs to be added
 				list.add(new GNUSymbol(this, name, type, addr, size));
 			}
+		} else {
+			list.add(new GNUSymbol(this, name, type, addr, size));
 		}
 	}
 
@@ -98,6 +98,28 @@ public class BuildConsolePartitionerEditDataTest {
 		assertThat(update.getOffset(), is(expectedOffset));
 	}
 
+	@Test
+	public void testOverflowLongLines() {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			line.append('x');
+		}
+		// Fewer lines than the maximum, but too many characters
+		for (int i = 0; i < DEFAULT_MAX_LINES / 2; i++) {
+			data.append("Line " + i + " " + line + "\n", stream1, null);
+		}
+
+		UpdateUIData update = data.getUpdate();
+		assertThat(update.needsClearDocumentMarkerManager(), is(true));
+
+		String contents = update.getNewContents();
+		// The document keeps up to twice an average of 1000 characters per line
+		assertThat(contents.length(), is(lessThanOrEqualTo(DEFAULT_MAX_LINES * 1000 * 2)));
+		int lastLine = DEFAULT_MAX_LINES / 2 - 1;
+		assertThat(contents, endsWith("Line " + lastLine + " " + line + "\n"));
+		assertThat(contents, startsWith("Line "));
+	}
+
 	@Test
 	public void testPartitionsCombine() {
 		data.append("Line\n", stream1, null);
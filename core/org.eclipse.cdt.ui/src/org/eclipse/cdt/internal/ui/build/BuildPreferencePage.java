@@ -44,7 +44,7 @@ import org.eclipse.ui.PlatformUI;
 public class BuildPreferencePage extends PreferencePage implements IWorkbenchPreferencePage {
 	private static final int GROUP_VINDENT = 5;
 	private static final int GROUP_HINDENT = 20;
-	private Button buildActive, buildAll, buildOnlyOnRefChange;
+	private Button buildActive, buildAll, buildOnlyOnRefChange, skipUnchangedSteps;
 
 	public BuildPreferencePage() {
 		super();
@@ -106,6 +106,11 @@ public class BuildPreferencePage extends PreferencePage implements IWorkbenchPre
 		buildOnlyOnRefChange.setLayoutData(gd2);
 		buildOnlyOnRefChange.setSelection(ACBuilder.buildConfigResourceChanges());
 
+		skipUnchangedSteps = new Button(gr2, SWT.CHECK);
+		skipUnchangedSteps.setText(PreferencesMessages.CPluginPreferencePage_skipUnchangedBuildSteps);
+		skipUnchangedSteps.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+		skipUnchangedSteps.setSelection(ACBuilder.skipUnchangedBuildSteps());
+
 		Dialog.applyDialogFont(container);
 		return container;
 	}
@@ -161,6 +166,7 @@ public class BuildPreferencePage extends PreferencePage implements IWorkbenchPre
 		// tell the Core Plugin about this preference
 		ACBuilder.setAllConfigBuild(buildAll.getSelection());
 		ACBuilder.setBuildConfigResourceChanges(buildOnlyOnRefChange.getSelection());
+		ACBuilder.setSkipUnchangedBuildSteps(skipUnchangedSteps.getSelection());
 		return true;
 	}
 
@@ -168,9 +174,11 @@ public class BuildPreferencePage extends PreferencePage implements IWorkbenchPre
 	protected void performDefaults() {
 		ACBuilder.setAllConfigBuild(false);
 		ACBuilder.setBuildConfigResourceChanges(false);
+		ACBuilder.setSkipUnchangedBuildSteps(true);
 		buildActive.setSelection(true);
 		buildAll.setSelection(false);
 		buildOnlyOnRefChange.setSelection(false);
+		skipUnchangedSteps.setSelection(true);
 		super.performDefaults();
 	}
 }
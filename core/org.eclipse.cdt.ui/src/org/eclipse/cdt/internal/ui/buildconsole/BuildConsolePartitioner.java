@@ -18,6 +18,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.ui.buildconsole;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -109,6 +110,8 @@ public class BuildConsolePartitioner
 	 */
 	private LogFile fLogFile = new LogFile();
 
+	private static final int LOG_BUFFER_SIZE = 64 * 1024;
+
 	private int fUpdateDelay = BuildConsolePreferencePage.DEFAULT_BUILDCONSOLE_UPDATE_DELAY_MS;
 
 	private long fOffset;
@@ -162,16 +165,25 @@ public class BuildConsolePartitioner
 			fLogFile.openStreamCount--;
 			if (fLogFile.openStreamCount <= 0) {
 				fLogFile.openStreamCount = 0;
-				if (fLogFile.fLogStream != null) {
-					try {
-						fLogFile.fLogStream.close();
-					} catch (IOException e) {
-						CUIPlugin.log(e);
-					} finally {
-						ResourcesUtil.refreshWorkspaceFiles(fLogFile.fLogURI);
-					}
-					fLogFile.fLogStream = null;
+				logClose();
+			}
+		}
+	}
+
+	/**
+	 * Close the log, writing out what is still buffered for it
+	 */
+	private void logClose() {
+		synchronized (fLogFile) {
+			if (fLogFile.fLogStream != null) {
+				try {
+					fLogFile.fLogStream.close();
+				} catch (IOException e) {
+					CUIPlugin.log(e);
+				} finally {
+					ResourcesUtil.refreshWorkspaceFiles(fLogFile.fLogURI);
 				}
+				fLogFile.fLogStream = null;
 			}
 		}
 	}
@@ -185,6 +197,8 @@ public class BuildConsolePartitioner
 	 */
 	private void logOpen(boolean append) {
 		synchronized (fLogFile) {
+			// Don't lose what is still buffered for the previous stream
+			logClose();
 			fLogFile.fLogURI = fManager.getLogURI(fProject);
 			if (fLogFile.fLogURI != null) {
 				try {
@@ -194,7 +208,8 @@ public class BuildConsolePartitioner
 					if (dir != null)
 						dir.mkdir(EFS.NONE, null);
 					int opts = append ? EFS.APPEND : EFS.NONE;
-					fLogFile.fLogStream = logStore.openOutputStream(opts, null);
+					fLogFile.fLogStream = new BufferedOutputStream(logStore.openOutputStream(opts, null),
+							LOG_BUFFER_SIZE);
 				} catch (CoreException e) {
 					CUIPlugin.log(e);
 				} finally {
@@ -208,7 +223,19 @@ public class BuildConsolePartitioner
 		synchronized (fLogFile) {
 			if (fLogFile.fLogStream != null) {
 				try {
+					// The log is flushed on each UI update rather than on each write
 					fLogFile.fLogStream.write(text.getBytes());
+				} catch (IOException e) {
+					CUIPlugin.log(e);
+				}
+			}
+		}
+	}
+
+	private void logFlush() {
+		synchronized (fLogFile) {
+			if (fLogFile.fLogStream != null) {
+				try {
 					fLogFile.fLogStream.flush();
 				} catch (IOException e) {
 					CUIPlugin.log(e);
@@ -244,6 +271,7 @@ public class BuildConsolePartitioner
 		 * Keep in mind that the log file can easily be written at rate 10x
 		 * faster than Eclipse's refresh mechanism can detect, which is 1ms.
 		 */
+		logFlush();
 		ResourcesUtil.refreshWorkspaceFiles(fLogFile.fLogURI);
 
 		// notify all streams with data we are about to update
@@ -476,7 +504,8 @@ public class BuildConsolePartitioner
 	@Override
 	public void start(final IProject project) {
 		synchronized (fLogFile) {
-			fLogFile.fLogStream = null;
+			// Don't lose what is still buffered for the previous build
+			logClose();
 			fLogFile.fLogURI = null;
 		}
 
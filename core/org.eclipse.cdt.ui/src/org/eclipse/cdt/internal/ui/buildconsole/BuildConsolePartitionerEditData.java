@@ -65,6 +65,13 @@ public class BuildConsolePartitionerEditData {
 		boolean hasProblemsAdded();
 	}
 
+	/**
+	 * The average number of characters per line the document is allowed to
+	 * have, so that very long lines cannot grow the document without bound
+	 * while staying within the maximum number of lines.
+	 */
+	private static final int MAX_AVERAGE_LINE_LENGTH = 1000;
+
 	/**
 	 * The maximum number of lines the document is allowed to have. This is a
 	 * soft limit. 0 or less for unlimited.
@@ -179,10 +186,11 @@ public class BuildConsolePartitionerEditData {
 					boolean canBeCombined = marker == null && last.getMarker() == null;
 					/*
 					 * Don't permit a single partition to exceed the maximum
-					 * number of lines of the whole document, this significantly
-					 * simplifies the logic of checkOverflow.
+					 * number of lines or characters of the whole document, this
+					 * significantly simplifies the logic of checkOverflow.
 					 */
-					canBeCombined = canBeCombined && (fMaxLines <= 0 || (last.getNewlines() + newlines < fMaxLines));
+					canBeCombined = canBeCombined && (fMaxLines <= 0 || (last.getNewlines() + newlines < fMaxLines
+							&& last.getLength() + text.length() < getMaxLength()));
 					/*
 					 * Don't permit different partition types to be combined
 					 */
@@ -228,19 +236,23 @@ public class BuildConsolePartitionerEditData {
 			/*
 			 * We actually limit the number of lines to 2 x max lines, bringing
 			 * it back to max lines when it overflows. This prevents
-			 * recalculating on every update
+			 * recalculating on every update. The number of characters is
+			 * limited the same way.
 			 */
-			if (fEditLineCount <= fMaxLines * 2)
+			int maxLength = getMaxLength();
+			if (fEditLineCount <= fMaxLines * 2 && fEditStringBuilder.length() <= maxLength * 2)
 				return;
 
 			// Update partitions
 
 			int newHeadIndex = fEditPartitions.size();
 			int newNewlineCount = 0;
-			while (newHeadIndex > 0 && newNewlineCount < fMaxLines) {
+			int newLength = 0;
+			while (newHeadIndex > 0 && newNewlineCount < fMaxLines && newLength < maxLength) {
 				newHeadIndex--;
 				BuildConsolePartition part = fEditPartitions.get(newHeadIndex);
 				newNewlineCount += part.getNewlines();
+				newLength += part.getLength();
 			}
 
 			if (newHeadIndex == 0) {
@@ -272,6 +284,10 @@ public class BuildConsolePartitionerEditData {
 		}
 	}
 
+	private int getMaxLength() {
+		return (int) Math.min((long) fMaxLines * MAX_AVERAGE_LINE_LENGTH, Integer.MAX_VALUE / 2);
+	}
+
 	/**
 	 * This method is useful for future debugging and bug-fixing
 	 */
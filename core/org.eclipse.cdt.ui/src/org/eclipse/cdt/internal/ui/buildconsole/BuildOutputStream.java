@@ -52,6 +52,12 @@ public class BuildOutputStream extends ConsoleOutputStream implements IErrorMark
 		fPartitioner.setStreamClosed();
 	}
 
+	@Override
+	public void write(int c) throws IOException {
+		// Don't let the inherited implementation keep the output in a buffer nobody reads
+		write(new byte[] { (byte) c }, 0, 1);
+	}
+
 	@Override
 	public void write(byte[] b, int off, int len) throws IOException {
 		fPartitioner.appendToDocument(new String(b, off, len), fStream, null);
@@ -326,6 +326,7 @@ public final class PreferencesMessages extends NLS {
 	public static String CPluginPreferencePage_4;
 	public static String CPluginPreferencePage_building_configurations;
 	public static String CPluginPreferencePage_7;
+	public static String CPluginPreferencePage_skipUnchangedBuildSteps;
 	public static String CPluginPreferencePage_description;
 	public static String CPluginPreferencePage_cdtDialogs_group;
 	public static String CPluginPreferencePage_clear_button;
@@ -247,4 +247,14 @@ public interface IGdbDebugPreferenceConstants {
 	 * @since 5.5
 	 */
 	public static final String PREF_DEFAULT_REMOTE_TIMEOUT_VALUE = "defaultRemoteTimeoutValue"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference whether the stack service of new sessions runs on its
+	 * own executor instead of the session executor.  This lets the frames of
+	 * many threads be retrieved without waiting behind the other services.
+	 * Default is <code>false</code>.
+	 *
+	 * @since 5.9
+	 */
+	public static final String PREF_CONFINED_STACK_SERVICE = PREFIX + "confinedStackService"; //$NON-NLS-1$
 }
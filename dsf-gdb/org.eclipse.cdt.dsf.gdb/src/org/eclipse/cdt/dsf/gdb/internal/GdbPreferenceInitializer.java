@@ -71,5 +71,6 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_ENABLED_DEFAULT);
 		node.put(IGdbDebugPreferenceConstants.PREF_DEFAULT_REMOTE_TIMEOUT_VALUE,
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_VALUE_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_CONFINED_STACK_SERVICE, false);
 	}
 }
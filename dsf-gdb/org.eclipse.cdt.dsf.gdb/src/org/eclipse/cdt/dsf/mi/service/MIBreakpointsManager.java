@@ -1625,17 +1625,15 @@ public class MIBreakpointsManager extends AbstractDsfService
 
 	// FIXME: (Bug228703) Need a way to identify the correct context where the BP was hit
 	private ICBreakpoint findPlatformBreakpoint(String targetBreakpointID) {
-		Set<IBreakpointsTargetDMContext> targets = fBPToPlatformMaps.keySet();
-		for (IBreakpointsTargetDMContext target : targets) {
-			Map<IBreakpointDMContext, ICBreakpoint> bps = fBPToPlatformMaps.get(target);
-			Set<IBreakpointDMContext> contexts = bps.keySet();
-			for (IBreakpointDMContext context : contexts) {
-				if (context instanceof MIBreakpointDMContext) {
-					MIBreakpointDMContext ctx = (MIBreakpointDMContext) context;
-					if (ctx.getReference().equals(targetBreakpointID)) {
-						return bps.get(context);
-					}
-				}
+		// Look the breakpoint up by its context in each target rather than scanning
+		// all the target breakpoints, which is costly with thousands of breakpoints.
+		for (Map.Entry<IBreakpointsTargetDMContext, Map<IBreakpointDMContext, ICBreakpoint>> entry : fBPToPlatformMaps
+				.entrySet()) {
+			MIBreakpointDMContext context = new MIBreakpointDMContext(getSession().getId(),
+					new IDMContext[] { entry.getKey() }, targetBreakpointID);
+			ICBreakpoint breakpoint = entry.getValue().get(context);
+			if (breakpoint != null) {
+				return breakpoint;
 			}
 		}
 		return null;
@@ -24,19 +24,18 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.model.ITranslationUnit;
@@ -82,6 +81,7 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.utils.Addr64;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -89,6 +89,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.sourcelookup.containers.LocalFileStorage;
 import org.osgi.framework.BundleContext;
@@ -184,6 +185,34 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 	 */
 	private boolean fEventsIdle = true;
 
+	/**
+	 * Index of the plain platform line breakpoints by line number, used to
+	 * compare a target breakpoint with the platform breakpoints on its line
+	 * first. The index is built on first use and then kept up to date by
+	 * {@link #fBreakpointListener}, on the thread reporting the breakpoint
+	 * change. Guarded by {@link #fPlatformBreakpointIndexLock}.
+	 */
+	private Map<Integer, List<ICBreakpoint>> fPlatformBreakpointsByLine;
+	private Map<ICBreakpoint, Integer> fPlatformBreakpointLines;
+	private final Object fPlatformBreakpointIndexLock = new Object();
+
+	private final IBreakpointListener fBreakpointListener = new IBreakpointListener() {
+		@Override
+		public void breakpointAdded(IBreakpoint breakpoint) {
+			updatePlatformBreakpointIndex(breakpoint, true);
+		}
+
+		@Override
+		public void breakpointRemoved(IBreakpoint breakpoint, IMarkerDelta delta) {
+			updatePlatformBreakpointIndex(breakpoint, false);
+		}
+
+		@Override
+		public void breakpointChanged(IBreakpoint breakpoint, IMarkerDelta delta) {
+			updatePlatformBreakpointIndex(breakpoint, true);
+		}
+	};
+
 	public MIBreakpointsSynchronizer(DsfSession session) {
 		super(session);
 		fTrackedTargets = new HashSet<>();
@@ -218,6 +247,7 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 		}
 		fBreakpointsManager.addBreakpointsTrackingListener(this);
 		getSession().addServiceEventListener(this, null);
+		DebugPlugin.getDefault().getBreakpointManager().addBreakpointListener(fBreakpointListener);
 
 		// Register this service
 		register(new String[] { MIBreakpointsSynchronizer.class.getName() }, new Hashtable<String, String>());
@@ -232,6 +262,11 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 		fDeletedTargetBreakpoints.clear();
 		fPendingModifications.clear();
 		fBreakpointEvents.clear();
+		DebugPlugin.getDefault().getBreakpointManager().removeBreakpointListener(fBreakpointListener);
+		synchronized (fPlatformBreakpointIndexLock) {
+			fPlatformBreakpointsByLine = null;
+			fPlatformBreakpointLines = null;
+		}
 		getSession().removeServiceEventListener(this);
 		MIBreakpointsManager bm = getBreakpointsManager();
 		if (bm != null) {
@@ -382,18 +417,21 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 		final MIBreakpointsManager bm = getBreakpointsManager();
 		Map<IBreakpointsTargetDMContext, Map<IBreakpointDMContext, ICBreakpoint>> bpToPlatformMaps = bm
 				.getBPToPlatformMaps();
-		Stream<IBreakpointDMContext> breakpointsKnownToManager = bpToPlatformMaps.entrySet().stream()
-				.flatMap(m -> m.getValue().keySet().stream());
-		Collector<MIBreakpointDMContext, ?, Map<IBreakpointsTargetDMContext, String>> collector = Collectors.toMap(
-				(MIBreakpointDMContext dmc) -> DMContexts.getAncestorOfType(dmc, IBreakpointsTargetDMContext.class),
-				(MIBreakpointDMContext dmc) -> dmc.getReference());
-		Map<IBreakpointsTargetDMContext, String> numbersKnownToManager = breakpointsKnownToManager
-				.filter(MIBreakpointDMContext.class::isInstance).map(MIBreakpointDMContext.class::cast)
-				.collect(collector);
+		// Index the breakpoints known to the manager by number, so that each target
+		// breakpoint can be matched in constant time.
+		Map<String, IBreakpointsTargetDMContext> numbersKnownToManager = new LinkedHashMap<>();
+		for (Map<IBreakpointDMContext, ICBreakpoint> targetBps : bpToPlatformMaps.values()) {
+			for (IBreakpointDMContext dmc : targetBps.keySet()) {
+				if (dmc instanceof MIBreakpointDMContext) {
+					numbersKnownToManager.put(((MIBreakpointDMContext) dmc).getReference(),
+							DMContexts.getAncestorOfType(dmc, IBreakpointsTargetDMContext.class));
+				}
+			}
+		}
 
 		for (MIBreakpoint miBpt : data.getMIBreakpoints()) {
 			String number = miBpt.getNumber();
-			if (numbersKnownToManager.values().remove(number)) {
+			if (numbersKnownToManager.remove(number) != null) {
 				BreakpointEvent event = new BreakpointEvent();
 				event.modified = miBpt;
 				fBreakpointEvents.addFirst(event);
@@ -403,9 +441,9 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 				fBreakpointEvents.addFirst(event);
 			}
 		}
-		for (Entry<IBreakpointsTargetDMContext, String> entry : numbersKnownToManager.entrySet()) {
-			IBreakpointsTargetDMContext dmc = entry.getKey();
-			String number = entry.getValue();
+		for (Entry<String, IBreakpointsTargetDMContext> entry : numbersKnownToManager.entrySet()) {
+			IBreakpointsTargetDMContext dmc = entry.getValue();
+			String number = entry.getKey();
 			if (number != null && !number.isEmpty() && (breakpointsContext == null || breakpointsContext.equals(dmc))) {
 				BreakpointEvent event = new BreakpointEvent();
 				event.deleted = number;
@@ -847,8 +885,26 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 	}
 
 	private ICBreakpoint getPlatformBreakpoint(MIBreakpoint miBpt, String fileName) {
+		List<ICBreakpoint> sameLine;
+		synchronized (fPlatformBreakpointIndexLock) {
+			if (fPlatformBreakpointsByLine == null) {
+				buildPlatformBreakpointIndex();
+			}
+			List<ICBreakpoint> indexed = fPlatformBreakpointsByLine.get(getLineNumber(miBpt));
+			sameLine = indexed != null ? new ArrayList<>(indexed) : Collections.emptyList();
+		}
+
+		// The platform breakpoints on the same line are the most likely match, so
+		// compare them first. The index only narrows the candidates: as
+		// isPlatformBreakpoint() can be overridden, the other platform breakpoints
+		// must still be compared when none of these matches.
+		for (ICBreakpoint cBreakpoint : sameLine) {
+			if (isPlatformBreakpoint(cBreakpoint, miBpt, fileName)) {
+				return cBreakpoint;
+			}
+		}
 		for (IBreakpoint b : DebugPlugin.getDefault().getBreakpointManager().getBreakpoints()) {
-			if (b instanceof ICBreakpoint) {
+			if (b instanceof ICBreakpoint && !sameLine.contains(b)) {
 				ICBreakpoint cBreakpoint = (ICBreakpoint) b;
 				if (isPlatformBreakpoint(cBreakpoint, miBpt, fileName)) {
 					return cBreakpoint;
@@ -858,6 +914,59 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 		return null;
 	}
 
+	private void buildPlatformBreakpointIndex() {
+		fPlatformBreakpointsByLine = new HashMap<>();
+		fPlatformBreakpointLines = new HashMap<>();
+		for (IBreakpoint b : DebugPlugin.getDefault().getBreakpointManager().getBreakpoints()) {
+			addToPlatformBreakpointIndex(b);
+		}
+	}
+
+	/**
+	 * Updates the platform breakpoint index, if it was built, after the given
+	 * breakpoint was added, changed or removed. May be called on any thread.
+	 */
+	private void updatePlatformBreakpointIndex(IBreakpoint breakpoint, boolean add) {
+		if (!(breakpoint instanceof ICBreakpoint)) {
+			return;
+		}
+		synchronized (fPlatformBreakpointIndexLock) {
+			if (fPlatformBreakpointsByLine != null) {
+				removeFromPlatformBreakpointIndex((ICBreakpoint) breakpoint);
+				if (add) {
+					addToPlatformBreakpointIndex(breakpoint);
+				}
+			}
+		}
+	}
+
+	private void addToPlatformBreakpointIndex(IBreakpoint b) {
+		if (b instanceof ICLineBreakpoint && !(b instanceof ICAddressBreakpoint)
+				&& !(b instanceof ICFunctionBreakpoint)) {
+			ICLineBreakpoint lineBreakpoint = (ICLineBreakpoint) b;
+			try {
+				int line = lineBreakpoint.getLineNumber();
+				fPlatformBreakpointsByLine.computeIfAbsent(line, l -> new ArrayList<>(1)).add(lineBreakpoint);
+				fPlatformBreakpointLines.put(lineBreakpoint, line);
+			} catch (CoreException e) {
+				// The marker is gone, the breakpoint is still compared with the others
+			}
+		}
+	}
+
+	private void removeFromPlatformBreakpointIndex(ICBreakpoint cBreakpoint) {
+		Integer line = fPlatformBreakpointLines.remove(cBreakpoint);
+		if (line != null) {
+			List<ICBreakpoint> sameLine = fPlatformBreakpointsByLine.get(line);
+			if (sameLine != null) {
+				sameLine.remove(cBreakpoint);
+				if (sameLine.isEmpty()) {
+					fPlatformBreakpointsByLine.remove(line);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Return true if the target breakpoint is the same as the platform breakpoint.
 	 *
@@ -15,31 +15,98 @@
 package org.eclipse.cdt.dsf.mi.service;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.ICachingService;
 import org.eclipse.cdt.dsf.debug.service.IDisassembly;
 import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryChangedEvent;
 import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.eclipse.cdt.dsf.debug.service.IModules2.ISymbolsChangedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IStartedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
+import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.commands.CLICommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIInterpreterExecConsole;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MINotifyAsyncOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
-public class MIDisassembly extends AbstractDsfService implements IDisassembly {
+public class MIDisassembly extends AbstractDsfService
+		implements IDisassembly, ICachingService, IEventListener, ICommandListener {
+
+	/**
+	 * Maximum number of disassembly results kept in {@link #fDisassemblyCache}.
+	 */
+	private static final int DISASSEMBLY_CACHE_SIZE = 256;
+
+	/**
+	 * Console commands which may load symbols or write memory, and after which
+	 * the cached disassembly may be wrong.
+	 */
+	private static final Set<String> CACHE_FLUSHING_CONSOLE_COMMANDS = new HashSet<>(Arrays.asList("file", //$NON-NLS-1$
+			"exec-file", "symbol-file", "add-symbol-file", "remove-symbol-file", "sharedlibrary", "nosharedlibrary", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"load", "restore", "set", "print", "p", "call", "compile")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
 
 	// Services
 	ICommandControl fConnection;
 	private CommandFactory fCommandFactory;
 
+	/**
+	 * Results of the disassembly commands, in least recently used order. The
+	 * results are kept across suspends, since the code of a process does not
+	 * change when it runs. They are discarded when memory or symbols change, a
+	 * library is loaded or unloaded, a process starts or exits, or a console
+	 * command which may load symbols or write memory is run.
+	 */
+	@SuppressWarnings("serial")
+	private final Map<ICommand<MIDataDisassembleInfo>, MIDataDisassembleInfo> fDisassemblyCache = new LinkedHashMap<ICommand<MIDataDisassembleInfo>, MIDataDisassembleInfo>(
+			16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICommand<MIDataDisassembleInfo>, MIDataDisassembleInfo> eldest) {
+			return size() > DISASSEMBLY_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Requests waiting for a disassembly command which was already sent.
+	 */
+	private final Map<ICommand<MIDataDisassembleInfo>, List<DataRequestMonitor<MIDataDisassembleInfo>>> fPendingDisassembly = new HashMap<>();
+
+	/**
+	 * Incremented whenever the cache is flushed, so that the results of commands
+	 * sent before the flush are not cached.
+	 */
+	private int fCacheGeneration;
+
 	///////////////////////////////////////////////////////////////////////////
 	// AbstractDsfService
 	///////////////////////////////////////////////////////////////////////////
@@ -70,6 +137,10 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 		fConnection = getServicesTracker().getService(ICommandControl.class);
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
+		getSession().addServiceEventListener(this, null);
+		fConnection.addEventListener(this);
+		fConnection.addCommandListener(this);
+
 		register(new String[] { IDisassembly.class.getName(), MIDisassembly.class.getName() },
 				new Hashtable<String, String>());
 		rm.done();
@@ -80,6 +151,12 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 	 */
 	@Override
 	public void shutdown(RequestMonitor rm) {
+		if (fConnection != null) {
+			fConnection.removeEventListener(this);
+			fConnection.removeCommandListener(this);
+		}
+		getSession().removeServiceEventListener(this);
+		fDisassemblyCache.clear();
 		unregister();
 		super.shutdown(rm);
 	}
@@ -124,7 +201,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
+		disassemble(fCommandFactory.createMIDataDisassemble(context, start, end, mode), startAddress != null,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -161,7 +238,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, filename, linenum, lines, mode),
+		disassemble(fCommandFactory.createMIDataDisassemble(context, filename, linenum, lines, mode), true,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -200,7 +277,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
+		disassemble(fCommandFactory.createMIDataDisassemble(context, start, end, mode), startAddress != null,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -237,7 +314,7 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
-		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, filename, linenum, lines, mode),
+		disassemble(fCommandFactory.createMIDataDisassemble(context, filename, linenum, lines, mode), true,
 				new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), drm) {
 					@Override
 					protected void handleSuccess() {
@@ -247,4 +324,170 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 					}
 				});
 	}
+
+	/**
+	 * Sends the given disassembly command, or uses the cached result of an
+	 * identical command if there is one.
+	 *
+	 * @param cacheable whether the result only depends on the command itself and
+	 *                  can be cached, i.e. it is not relative to the $pc.
+	 */
+	private void disassemble(final ICommand<MIDataDisassembleInfo> command, boolean cacheable,
+			final DataRequestMonitor<MIDataDisassembleInfo> rm) {
+		if (!cacheable) {
+			fConnection.queueCommand(command, rm);
+			return;
+		}
+
+		MIDataDisassembleInfo cached = fDisassemblyCache.get(command);
+		if (cached != null) {
+			rm.done(cached);
+			return;
+		}
+
+		// Join an identical command already sent, e.g. when scrolling back and forth
+		List<DataRequestMonitor<MIDataDisassembleInfo>> pending = fPendingDisassembly.get(command);
+		if (pending != null) {
+			pending.add(rm);
+			return;
+		}
+		pending = new ArrayList<>(1);
+		pending.add(rm);
+		fPendingDisassembly.put(command, pending);
+
+		final int generation = fCacheGeneration;
+		fConnection.queueCommand(command, new DataRequestMonitor<MIDataDisassembleInfo>(getExecutor(), null) {
+			@Override
+			protected void handleCompleted() {
+				List<DataRequestMonitor<MIDataDisassembleInfo>> waiting = fPendingDisassembly.remove(command);
+				// Only successful results are cached: an address without code
+				// now may be part of a library loaded later.
+				if (isSuccess() && generation == fCacheGeneration) {
+					fDisassemblyCache.put(command, getData());
+				}
+				if (waiting != null) {
+					for (DataRequestMonitor<MIDataDisassembleInfo> waitingRm : waiting) {
+						waitingRm.setData(getData());
+						waitingRm.setStatus(getStatus());
+						waitingRm.done();
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 5.9
+	 */
+	@Override
+	public void flushCache(IDMContext context) {
+		fDisassemblyCache.clear();
+		fCacheGeneration++;
+	}
+
+	/**
+	 * The code may have been written to.
+	 * @since 5.9
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IMemoryChangedEvent e) {
+		flushCache(null);
+	}
+
+	/**
+	 * Addresses may now map to different code.
+	 * @since 5.9
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(ISymbolsChangedDMEvent e) {
+		flushCache(null);
+	}
+
+	/**
+	 * A new process may reuse the addresses of another one.
+	 * @since 5.9
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IStartedDMEvent e) {
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			flushCache(null);
+		}
+	}
+
+	/**
+	 * @since 5.9
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IExitedDMEvent e) {
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			flushCache(null);
+		}
+	}
+
+	/**
+	 * Libraries may be loaded at the addresses of unloaded ones.
+	 * @since 5.9
+	 */
+	@Override
+	public void eventReceived(Object output) {
+		if (output instanceof MIOutput) {
+			for (MIOOBRecord oobr : ((MIOutput) output).getMIOOBRecords()) {
+				if (oobr instanceof MINotifyAsyncOutput) {
+					String asyncClass = ((MINotifyAsyncOutput) oobr).getAsyncClass();
+					if ("library-loaded".equals(asyncClass) || "library-unloaded".equals(asyncClass)) { //$NON-NLS-1$ //$NON-NLS-2$
+						flushCache(null);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @since 5.9
+	 */
+	@Override
+	public void commandQueued(ICommandToken token) {
+		// No action
+	}
+
+	/**
+	 * @since 5.9
+	 */
+	@Override
+	public void commandSent(ICommandToken token) {
+		// No action
+	}
+
+	/**
+	 * @since 5.9
+	 */
+	@Override
+	public void commandRemoved(ICommandToken token) {
+		// No action
+	}
+
+	/**
+	 * Console commands may load symbols, e.g. with 'symbol-file' or
+	 * 'sharedlibrary', or write code.
+	 * @since 5.9
+	 */
+	@Override
+	public void commandDone(ICommandToken token, ICommandResult result) {
+		String consoleCommand = null;
+		if (token.getCommand() instanceof CLICommand<?>) {
+			consoleCommand = ((CLICommand<?>) token.getCommand()).getOperation();
+		} else if (token.getCommand() instanceof MIInterpreterExecConsole<?>) {
+			String[] parameters = ((MIInterpreterExecConsole<?>) token.getCommand()).getParameters();
+			if (parameters.length > 1) {
+				consoleCommand = parameters[1];
+			}
+		}
+		if (consoleCommand != null) {
+			String[] words = consoleCommand.trim().split("\\s+", 2); //$NON-NLS-1$
+			if (CACHE_FLUSHING_CONSOLE_COMMANDS.contains(words[0])) {
+				flushCache(null);
+			}
+		}
+	}
 }
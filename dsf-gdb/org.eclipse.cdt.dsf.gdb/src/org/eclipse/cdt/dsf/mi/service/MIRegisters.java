@@ -43,6 +43,7 @@ import org.eclipse.cdt.dsf.debug.service.IStack;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
@@ -256,6 +257,9 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	private CommandCache fRegisterNameCache; // Cache for holding the Register Names in the single Group
 	private CommandCache fRegisterValueCache; // Cache for holding the Register Values
 
+	// Register values of a frame indexed by register number, for each frame and format read since the last reset
+	private final Map<ICommand<MIDataListRegisterValuesInfo>, Map<Integer, MIRegisterValue>> fRegisterSnapshots = new HashMap<>();
+
 	public MIRegisters(DsfSession session) {
 		super(session);
 	}
@@ -382,14 +386,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				return;
 			}
 
-			int[] regnos = { miRegDmc.getRegNo() };
-			fRegisterValueCache.execute(
-					fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, regnos),
-					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+			readRegisterValue(frameDmc, MIFormat.HEXADECIMAL, miRegDmc.getRegNo(),
+					new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
 							// Retrieve the register value.
-							MIRegisterValue[] regValue = getData().getMIRegisterValues();
+							MIRegisterValue[] regValue = getData();
 
 							// If the list is empty just return empty handed.
 							// The only known case this happens is caused by a bug in GDB's Python
@@ -455,13 +457,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 			NumberFormat = MIFormat.DECIMAL;
 		}
 
-		int[] regnos = { regDmc.getRegNo() };
-		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, NumberFormat, regnos),
-				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+		readRegisterValue(frameDmc, NumberFormat, regDmc.getRegNo(),
+				new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						// Retrieve the register value.
-						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						MIRegisterValue[] regValue = getData();
 
 						// If the list is empty just return empty handed.
 						// The only known case this happens is caused by a bug in GDB's Python
@@ -485,6 +486,70 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				});
 	}
 
+	/**
+	 * Reads the value of a single register from the snapshot of all registers of the
+	 * given frame.  The snapshot is fetched with a single <code>-data-list-register-values</code>
+	 * command per frame and format and is kept until the register value cache is reset,
+	 * so that populating a view with hundreds of registers costs one round trip to GDB.
+	 * If GDB fails to provide the full snapshot, the register is read on its own.
+	 *
+	 * The data returned is an array holding the register value, or an empty array if
+	 * GDB did not return a value for that register.
+	 */
+	private void readRegisterValue(final IFrameDMContext frameDmc, final int format, final int regNo,
+			final DataRequestMonitor<MIRegisterValue[]> rm) {
+		final ICommand<MIDataListRegisterValuesInfo> snapshotCmd = fCommandFactory
+				.createMIDataListRegisterValues(frameDmc, format);
+		fRegisterValueCache.execute(snapshotCmd,
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						Map<Integer, MIRegisterValue> snapshot = fRegisterSnapshots.get(snapshotCmd);
+						if (snapshot == null) {
+							snapshot = createSnapshot(getData().getMIRegisterValues());
+							fRegisterSnapshots.put(snapshotCmd, snapshot);
+						}
+
+						MIRegisterValue value = snapshot.get(regNo);
+						if (value != null) {
+							rm.done(new MIRegisterValue[] { value });
+						} else {
+							readSingleRegisterValue(frameDmc, format, regNo, rm);
+						}
+					}
+
+					@Override
+					protected void handleError() {
+						// Some targets refuse to list all registers at once, e.g. when one
+						// of them cannot be read; fall back to reading the register alone.
+						readSingleRegisterValue(frameDmc, format, regNo, rm);
+					}
+				});
+	}
+
+	private void readSingleRegisterValue(IFrameDMContext frameDmc, int format, int regNo,
+			final DataRequestMonitor<MIRegisterValue[]> rm) {
+		int[] regnos = { regNo };
+		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, format, regnos),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						rm.done(getData().getMIRegisterValues());
+					}
+				});
+	}
+
+	/*
+	 * Indexes the register values by register number.
+	 */
+	private Map<Integer, MIRegisterValue> createSnapshot(MIRegisterValue[] values) {
+		Map<Integer, MIRegisterValue> snapshot = new HashMap<>(values.length * 2);
+		for (MIRegisterValue value : values) {
+			snapshot.put(value.getNumber(), value);
+		}
+		return snapshot;
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -587,7 +652,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void eventDispatched(IRunControl.IResumedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), false);
 		if (e.getReason() != StateChangeReason.STEP) {
-			fRegisterValueCache.reset();
+			resetRegisterValues();
 		}
 	}
 
@@ -598,7 +663,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(IRunControl.ISuspendedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), true);
-		fRegisterValueCache.reset();
+		resetRegisterValues();
 	}
 
 	/**
@@ -607,7 +672,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(final IRegisters.IRegisterChangedDMEvent e) {
+		resetRegisterValues();
+	}
+
+	private void resetRegisterValues() {
 		fRegisterValueCache.reset();
+		fRegisterSnapshots.clear();
 	}
 
 	/**
@@ -870,5 +940,6 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void flushCache(IDMContext context) {
 		fRegisterNameCache.reset(context);
 		fRegisterValueCache.reset(context);
+		fRegisterSnapshots.clear();
 	}
 }
@@ -23,10 +23,13 @@ import java.util.Hashtable;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
@@ -46,6 +49,7 @@ import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
@@ -350,10 +354,56 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 */
 	private Map<IMIExecutionDMContext, VariableData> fThreadToReturnVariable = new HashMap<>();
 
+	/**
+	 * Listener for the events updating the command cache, when this service is
+	 * confined to its own executor.
+	 */
+	private CommandCacheUpdater fCommandCacheUpdater;
+
 	public MIStack(DsfSession session) {
 		super(session);
 	}
 
+	/**
+	 * Creates a stack service confined to the given executor rather than to
+	 * the session executor, so that requests for the frames and variables of
+	 * many threads do not have to wait behind the rest of the session.
+	 * <p>
+	 * Requests coming from the session executor are run on the given executor
+	 * and their results are returned on the session executor.  The commands
+	 * sent to GDB and the state of the other services are still only accessed
+	 * on the session executor.  The executor is shut down with this service.
+	 *
+	 * @param session session this service belongs to
+	 * @param executor single threaded executor this service is confined to
+	 * @since 5.9
+	 */
+	public MIStack(DsfSession session, DsfExecutor executor) {
+		super(session, executor);
+	}
+
+	/**
+	 * Updates the command cache on the session executor, as the events are
+	 * dispatched, when this service is confined to its own executor.  Command
+	 * results arriving before the events are processed on the executor of the
+	 * service must not be cached for a context that is no longer suspended.
+	 *
+	 * @noreference This class is not intended to be referenced by clients.
+	 * @noinstantiate This class is not intended to be instantiated by clients.
+	 * @since 5.9
+	 */
+	public class CommandCacheUpdater {
+		@DsfServiceEventHandler
+		public void eventDispatched(IResumedDMEvent e) {
+			updateCommandCache(e);
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(ISuspendedDMEvent e) {
+			updateCommandCache(e);
+		}
+	}
+
 	/**
 	 * Base class for the IFrameDMData object that uses an MIFrame object to
 	 * provide the data.  Sub-classes must provide the MIFrame object
@@ -453,7 +503,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	private void doInitialize(RequestMonitor rm) {
 		ICommandControlService commandControl = getServicesTracker().getService(ICommandControlService.class);
-		BufferedCommandControl bufferedCommandControl = new BufferedCommandControl(commandControl, getExecutor(), 2);
+		BufferedCommandControl bufferedCommandControl = new BufferedCommandControl(commandControl,
+				getSession().getExecutor(), 2);
 
 		// This cache stores the result of a command when received; also, this cache
 		// is manipulated when receiving events.  Currently, events are received after
@@ -470,6 +521,10 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
 
 		getSession().addServiceEventListener(this, null);
+		if (isConfined()) {
+			fCommandCacheUpdater = new CommandCacheUpdater();
+			getSession().addServiceEventListener(fCommandCacheUpdater, null);
+		}
 		register(new String[] { IStack.class.getName(), MIStack.class.getName() }, new Hashtable<String, String>());
 		rm.done();
 	}
@@ -478,8 +533,96 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void shutdown(RequestMonitor rm) {
 		unregister();
 		getSession().removeServiceEventListener(this);
+		if (fCommandCacheUpdater != null) {
+			getSession().removeServiceEventListener(fCommandCacheUpdater);
+		}
 		fMICommandCache.reset();
 		super.shutdown(rm);
+		if (isConfined()) {
+			// Requests already queued are still run
+			getExecutor().shutdown();
+		}
+	}
+
+	private boolean isConfined() {
+		return getExecutor() != getSession().getExecutor();
+	}
+
+	/**
+	 * Returns whether a request must be moved to the executor of this service
+	 * because this service is confined to it and the request comes from
+	 * another executor, normally the session executor.
+	 */
+	private boolean isCalledFromSession() {
+		return isConfined() && !getExecutor().isInExecutorThread();
+	}
+
+	/**
+	 * Returns a request monitor completing the given request monitor of a
+	 * caller on the session executor.
+	 */
+	private <V> DataRequestMonitor<V> completeInSession(final DataRequestMonitor<V> rm) {
+		return new DataRequestMonitor<V>(getSession().getExecutor(), rm) {
+			@Override
+			protected void handleSuccess() {
+				rm.done(getData());
+			}
+		};
+	}
+
+	/**
+	 * Runs the given runnable on the executor of this service, or fails the
+	 * request monitor if the service is shut down.
+	 */
+	private void executeInService(RequestMonitor rm, Runnable runnable) {
+		if (getExecutor().isInExecutorThread()) {
+			runnable.run();
+			return;
+		}
+		try {
+			getExecutor().execute(runnable);
+		} catch (RejectedExecutionException e) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Service is shut down", e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Runs the given runnable on the session executor, or fails the request
+	 * monitor if the session is shut down.
+	 */
+	private void executeInSession(RequestMonitor rm, Runnable runnable) {
+		if (getSession().getExecutor().isInExecutorThread()) {
+			runnable.run();
+			return;
+		}
+		try {
+			getSession().getExecutor().execute(runnable);
+		} catch (RejectedExecutionException e) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Session is shut down", e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Sends the given command through the command cache, which is only used
+	 * on the session executor.
+	 */
+	private <V extends ICommandResult> void executeCommand(final ICommand<V> command, final DataRequestMonitor<V> rm) {
+		executeInSession(rm, () -> fMICommandCache.execute(command, rm));
+	}
+
+	/**
+	 * Asks the run control service whether the given context is suspended,
+	 * the result is returned on the executor of this service.
+	 */
+	private void isSuspended(final IExecutionDMContext execDmc, final DataRequestMonitor<Boolean> rm) {
+		if (!isConfined()) {
+			rm.done(fRunControl.isSuspended(execDmc));
+			return;
+		}
+		executeInSession(rm, () -> {
+			final boolean suspended = fRunControl.isSuspended(execDmc);
+			executeInService(rm, () -> rm.done(suspended));
+		});
 	}
 
 	/**
@@ -505,6 +648,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	@Override
 	public void getFrames(final IDMContext ctx, final int startIndex, final int endIndex,
 			final DataRequestMonitor<IFrameDMContext[]> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getFrames(ctx, startIndex, endIndex, completeInSession(rm)));
+			return;
+		}
+
 		if (startIndex < 0 || endIndex > 0 && endIndex < startIndex) {
 			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
 					"Invalid stack frame range [" + startIndex + ',' + endIndex + ']', null)); //$NON-NLS-1$
@@ -522,13 +670,25 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 
 		// Make sure the thread is stopped but only if we are not visualizing trace data
-		if (!fTraceVisualization && !fRunControl.isSuspended(execDmc)) {
-			rm.setStatus(
-					new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Context is running: " + ctx, null)); //$NON-NLS-1$
-			rm.done();
+		if (fTraceVisualization) {
+			getFramesOfSuspended(execDmc, startIndex, endIndex, rm);
 			return;
 		}
+		isSuspended(execDmc, new ImmediateDataRequestMonitor<Boolean>(rm) {
+			@Override
+			protected void handleSuccess() {
+				if (!getData()) {
+					rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE,
+							"Context is running: " + ctx, null)); //$NON-NLS-1$
+					return;
+				}
+				getFramesOfSuspended(execDmc, startIndex, endIndex, rm);
+			}
+		});
+	}
 
+	private void getFramesOfSuspended(final IMIExecutionDMContext execDmc, final int startIndex, final int endIndex,
+			final DataRequestMonitor<IFrameDMContext[]> rm) {
 		if (startIndex == 0 && endIndex == 0) {
 			// Try to retrieve the top stack frame from the cached stopped event.
 			if (fCachedStoppedEvent != null && fCachedStoppedEvent.getFrame() != null
@@ -596,6 +756,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getTopFrame(final IDMContext ctx, final DataRequestMonitor<IFrameDMContext> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getTopFrame(ctx, completeInSession(rm)));
+			return;
+		}
+
 		final IMIExecutionDMContext execDmc = DMContexts.getAncestorOfType(ctx, IMIExecutionDMContext.class);
 		if (execDmc == null) {
 			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE, "Invalid context" + ctx, null)); //$NON-NLS-1$
@@ -624,6 +789,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getFrameData(final IFrameDMContext frameDmc, final DataRequestMonitor<IFrameDMData> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getFrameData(frameDmc, completeInSession(rm)));
+			return;
+		}
+
 		if (!(frameDmc instanceof MIFrameDMC)) {
 			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
 					"Invalid context type " + frameDmc, null)); //$NON-NLS-1$
@@ -668,7 +838,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 
 		// If not, retrieve the full list of frame data.
-		fMICommandCache.execute(createMIStackListFrames(execDmc),
+		executeCommand(createMIStackListFrames(execDmc),
 				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
@@ -688,7 +858,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						// frames with no limits, but the same command succeeds if the request is limited
 						// to one frame. So try again with a limit of 1.
 						// It's better to show just one frame than none at all
-						fMICommandCache.execute(createMIStackListFrames(execDmc, frameLevel, frameLevel),
+						executeCommand(createMIStackListFrames(execDmc, frameLevel, frameLevel),
 								new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
 									@Override
 									protected void handleSuccess() {
@@ -708,6 +878,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getArguments(final IFrameDMContext frameDmc, final DataRequestMonitor<IVariableDMContext[]> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getArguments(frameDmc, completeInSession(rm)));
+			return;
+		}
+
 		final IMIExecutionDMContext execDmc = DMContexts.getAncestorOfType(frameDmc, IMIExecutionDMContext.class);
 		if (execDmc == null) {
 			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
@@ -729,7 +904,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 		// If not, retrieve the full list of frame data.  Although we only need one frame
 		// for this call, it will be stored the cache and made available for other calls.
-		fMICommandCache.execute(
+		executeCommand(
 				// We don't actually need to ask for the values in this case, but since
 				// we will ask for them right after, it is more efficient to ask for them now
 				// so as to cache the result.  If the command fails, then we will ask for
@@ -766,7 +941,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						// This can happen with uninitialized values and pretty printers (bug 307614).
 						// Since asking for values was simply an optimization
 						// to store the command in the cache, let's retry the command without asking for values.
-						fMICommandCache.execute(fCommandFactory.createMIStackListArguments(execDmc, false),
+						executeCommand(fCommandFactory.createMIStackListArguments(execDmc, false),
 								new DataRequestMonitor<MIStackListArgumentsInfo>(getExecutor(), rm) {
 									@Override
 									protected void handleSuccess() {
@@ -795,7 +970,12 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	}
 
 	@Override
-	public void getVariableData(IVariableDMContext variableDmc, final DataRequestMonitor<IVariableDMData> rm) {
+	public void getVariableData(final IVariableDMContext variableDmc, final DataRequestMonitor<IVariableDMData> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getVariableData(variableDmc, completeInSession(rm)));
+			return;
+		}
+
 		if (!(variableDmc instanceof MIVariableDMC)) {
 			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
 					"Invalid context type " + variableDmc, null)); //$NON-NLS-1$
@@ -838,7 +1018,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 
 		if (miVariableDmc.fType == MIVariableDMC.Type.ARGUMENT) {
-			fMICommandCache.execute(
+			executeCommand(
 					// Don't ask for value when we are visualizing trace data, since some
 					// data will not be there, and the command will fail
 					fCommandFactory.createMIStackListArguments(execDmc, true),
@@ -865,7 +1045,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						protected void handleError() {
 							// Unable to get the values.  This can happen with uninitialized values and pretty printers (bug 307614)
 							// Let's try to ask for the arguments without their values, which is better than nothing
-							fMICommandCache.execute(fCommandFactory.createMIStackListArguments(execDmc, false),
+							executeCommand(fCommandFactory.createMIStackListArguments(execDmc, false),
 									new DataRequestMonitor<MIStackListArgumentsInfo>(getExecutor(), rm) {
 										@Override
 										protected void handleSuccess() {
@@ -888,7 +1068,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						}
 					});
 		} else if (miVariableDmc.fType == MIVariableDMC.Type.LOCAL) {
-			fMICommandCache.execute(
+			executeCommand(
 					// Don't ask for value when we are visualizing trace data, since some
 					// data will not be there, and the command will fail
 					fCommandFactory.createMIStackListLocals(frameDmc, !fTraceVisualization),
@@ -910,7 +1090,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						protected void handleError() {
 							// Unable to get the value.  This can happen with uninitialized values and pretty printers (bug 307614).
 							// Let's try to ask for the variables without their values, which is better than nothing
-							fMICommandCache.execute(fCommandFactory.createMIStackListLocals(frameDmc, false),
+							executeCommand(fCommandFactory.createMIStackListLocals(frameDmc, false),
 									new DataRequestMonitor<MIStackListLocalsInfo>(getExecutor(), rm) {
 										@Override
 										protected void handleSuccess() {
@@ -982,6 +1162,10 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getLocals(final IFrameDMContext frameDmc, final DataRequestMonitor<IVariableDMContext[]> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getLocals(frameDmc, completeInSession(rm)));
+			return;
+		}
 
 		final List<IVariableDMContext> localsList = new ArrayList<>();
 
@@ -1013,7 +1197,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		});
 
 		// Finally get the local variables
-		fMICommandCache.execute(
+		executeCommand(
 				// We don't actually need to ask for the values in this case, but since
 				// we will ask for them right after, it is more efficient to ask for them now
 				// so as to cache the result.  If the command fails, then we will ask for
@@ -1035,7 +1219,7 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 						// This can happen with uninitialized values and pretty printers (bug 307614).
 						// Since asking for values was simply an optimization
 						// to store the command in the cache, let's retry the command without asking for values.
-						fMICommandCache.execute(fCommandFactory.createMIStackListLocals(frameDmc, false),
+						executeCommand(fCommandFactory.createMIStackListLocals(frameDmc, false),
 								new DataRequestMonitor<MIStackListLocalsInfo>(getExecutor(), countingRm) {
 									@Override
 									protected void handleSuccess() {
@@ -1050,78 +1234,26 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getStackDepth(final IDMContext dmc, final int maxDepth, final DataRequestMonitor<Integer> rm) {
+		if (isCalledFromSession()) {
+			executeInService(rm, () -> getStackDepth(dmc, maxDepth, completeInSession(rm)));
+			return;
+		}
+
 		final IMIExecutionDMContext execDmc = DMContexts.getAncestorOfType(dmc, IMIExecutionDMContext.class);
 		if (execDmc != null) {
 			// Make sure the thread is stopped
-			if (!fTraceVisualization && !fRunControl.isSuspended(execDmc)) {
-				rm.setData(0);
-				rm.done();
+			if (fTraceVisualization) {
+				getStackDepthOfSuspended(execDmc, maxDepth, rm);
 				return;
 			}
-
-			String threadId = execDmc.getThreadId();
-			// Check our internal cache first because different commands can
-			// still be re-used.
-			int depth = fFramesCache.getThreadFramesCache(threadId).getStackDepth(maxDepth);
-			if (depth > 0) {
-				rm.setData(depth);
-				rm.done();
-				return;
-			}
-
-			ICommand<MIStackInfoDepthInfo> depthCommand = null;
-			if (maxDepth > 0) {
-				depthCommand = fCommandFactory.createMIStackInfoDepth(execDmc, maxDepth);
-			} else {
-				depthCommand = fCommandFactory.createMIStackInfoDepth(execDmc);
-			}
-
-			fMICommandCache.execute(depthCommand, new DataRequestMonitor<MIStackInfoDepthInfo>(getExecutor(), rm) {
+			isSuspended(execDmc, new ImmediateDataRequestMonitor<Boolean>(rm) {
 				@Override
 				protected void handleSuccess() {
-					// Store result in our internal cache
-					int stackDepth = getData().getDepth();
-					fFramesCache.update(threadId, stackDepth, maxDepth);
-					rm.setData(stackDepth);
-					rm.done();
-				}
-
-				@Override
-				protected void handleError() {
-					if (fTraceVisualization) {
-						// when visualizing trace data with GDB 7.2, the command
-						// -stack-info-depth will return an error if we ask for any level
-						// that GDB does not know about.  We would have to iteratively
-						// try different depths until we found the deepest that succeeds.
-						// That is too much of a hack, especially since GDB 7.3 answers correctly.
-						// For 7.2, we can safely say we have one stack
-						// frame, which is going to be the case for 95% of the cases.
-						// To have more stack frames, the user would have to have collected
-						// the registers and enough stack memory for GDB to build another frame.
-						rm.setData(1);
-						rm.done();
-					} else {
-						// gdb fails when being asked for the stack depth but stack frames command succeeds
-						// it seems like an overkill but it will cached and ui later will ask for it anyway
-						fMICommandCache.execute(createMIStackListFrames(execDmc, 0, maxDepth - 1),
-								new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
-									@Override
-									protected void handleSuccess() {
-										FramesCacheInfo info = fFramesCache.update(threadId, getData());
-										int depth = info.getValidStackDepth();
-										fFramesCache.update(threadId, depth, maxDepth); // update maxDepth for stack depth cache
-										rm.done(depth);
-									}
-
-									@Override
-									protected void handleError() {
-										// Lets return that we have 5 frames, if we return just 1 front end will never ask
-										// for more. There is chance that gdb will actually return correct frames later
-										// and one frame is not enough in many case to debug anything
-										rm.done(fFramesCache.getThreadFramesCache(threadId).getValidStackDepth());
-									}
-								});
+					if (!getData()) {
+						rm.done(0);
+						return;
 					}
+					getStackDepthOfSuspended(execDmc, maxDepth, rm);
 				}
 			});
 		} else {
@@ -1130,22 +1262,99 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 	}
 
+	private void getStackDepthOfSuspended(final IMIExecutionDMContext execDmc, final int maxDepth,
+			final DataRequestMonitor<Integer> rm) {
+		String threadId = execDmc.getThreadId();
+		// Check our internal cache first because different commands can
+		// still be re-used.
+		int depth = fFramesCache.getThreadFramesCache(threadId).getStackDepth(maxDepth);
+		if (depth > 0) {
+			rm.setData(depth);
+			rm.done();
+			return;
+		}
+
+		ICommand<MIStackInfoDepthInfo> depthCommand = null;
+		if (maxDepth > 0) {
+			depthCommand = fCommandFactory.createMIStackInfoDepth(execDmc, maxDepth);
+		} else {
+			depthCommand = fCommandFactory.createMIStackInfoDepth(execDmc);
+		}
+
+		executeCommand(depthCommand, new DataRequestMonitor<MIStackInfoDepthInfo>(getExecutor(), rm) {
+			@Override
+			protected void handleSuccess() {
+				// Store result in our internal cache
+				int stackDepth = getData().getDepth();
+				fFramesCache.update(threadId, stackDepth, maxDepth);
+				rm.setData(stackDepth);
+				rm.done();
+			}
+
+			@Override
+			protected void handleError() {
+				if (fTraceVisualization) {
+					// when visualizing trace data with GDB 7.2, the command
+					// -stack-info-depth will return an error if we ask for any level
+					// that GDB does not know about.  We would have to iteratively
+					// try different depths until we found the deepest that succeeds.
+					// That is too much of a hack, especially since GDB 7.3 answers correctly.
+					// For 7.2, we can safely say we have one stack
+					// frame, which is going to be the case for 95% of the cases.
+					// To have more stack frames, the user would have to have collected
+					// the registers and enough stack memory for GDB to build another frame.
+					rm.setData(1);
+					rm.done();
+				} else {
+					// gdb fails when being asked for the stack depth but stack frames command succeeds
+					// it seems like an overkill but it will cached and ui later will ask for it anyway
+					executeCommand(createMIStackListFrames(execDmc, 0, maxDepth - 1),
+							new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
+								@Override
+								protected void handleSuccess() {
+									FramesCacheInfo info = fFramesCache.update(threadId, getData());
+									int depth = info.getValidStackDepth();
+									fFramesCache.update(threadId, depth, maxDepth); // update maxDepth for stack depth cache
+									rm.done(depth);
+								}
+
+								@Override
+								protected void handleError() {
+									// Lets return that we have 5 frames, if we return just 1 front end will never ask
+									// for more. There is chance that gdb will actually return correct frames later
+									// and one frame is not enough in many case to debug anything
+									rm.done(fFramesCache.getThreadFramesCache(threadId).getValidStackDepth());
+								}
+							});
+				}
+			}
+		});
+	}
+
 	/**
 	 * @nooverride This method is not intended to be re-implemented or extended by clients.
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(IResumedDMEvent e) {
-		fMICommandCache.setContextAvailable(e.getDMContext(), false);
+		if (!isConfined()) {
+			updateCommandCache(e);
+		}
 		if (e.getReason() != StateChangeReason.STEP) {
 			fCachedStoppedEvent = null;
-			fMICommandCache.reset();
 			fFramesCache.clear();
 		}
 
 		handleReturnValues(e);
 	}
 
+	private void updateCommandCache(IResumedDMEvent e) {
+		fMICommandCache.setContextAvailable(e.getDMContext(), false);
+		if (e.getReason() != StateChangeReason.STEP) {
+			fMICommandCache.reset();
+		}
+	}
+
 	private void handleReturnValues(IResumedDMEvent e) {
 		// Whenever the execution resumes, we can clear any
 		// return values of previous methods for the resuming
@@ -1174,13 +1383,19 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 */
 	@DsfServiceEventHandler
 	public void eventDispatched(ISuspendedDMEvent e) {
-		fMICommandCache.setContextAvailable(e.getDMContext(), true);
-		fMICommandCache.reset();
+		if (!isConfined()) {
+			updateCommandCache(e);
+		}
 		fFramesCache.clear();
 
 		handleReturnValues(e);
 	}
 
+	private void updateCommandCache(ISuspendedDMEvent e) {
+		fMICommandCache.setContextAvailable(e.getDMContext(), true);
+		fMICommandCache.reset();
+	}
+
 	private void handleReturnValues(ISuspendedDMEvent e) {
 		// Process MIFunctionFinishedEvent from within the ISuspendedDMEvent
 		// instead of MIStoppedEvent.
@@ -1249,7 +1464,20 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 * @since 1.1
 	 */
 	@Override
-	public void flushCache(IDMContext context) {
+	public void flushCache(final IDMContext context) {
+		if (isConfined()) {
+			// Called on the session executor, where the command cache is used
+			fMICommandCache.reset(context);
+			try {
+				getExecutor().execute(() -> {
+					fFramesCache.clear(context);
+					fCachedStoppedEvent = null;
+				});
+			} catch (RejectedExecutionException e) {
+				// Shut down, nothing left to flush
+			}
+			return;
+		}
 		fMICommandCache.reset(context);
 		fFramesCache.clear(context);
 		fCachedStoppedEvent = null;
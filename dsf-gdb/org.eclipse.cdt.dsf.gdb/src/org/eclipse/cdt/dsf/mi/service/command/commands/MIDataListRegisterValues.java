@@ -135,6 +135,14 @@ public class MIDataListRegisterValues extends MICommand<MIDataListRegisterValues
 		if (fFmt != cmd.fFmt)
 			return null;
 
+		/*
+		 * A command without a list of numbers already returns all the registers,
+		 * so it covers the other command as well.
+		 */
+		if (regnums == null || regnums.length == 0 || cmd.regnums == null || cmd.regnums.length == 0) {
+			return new MIDataListRegisterValues((IFrameDMContext) getContext(), fFmt);
+		}
+
 		int[] newregnos = new int[regnums.length + cmd.regnums.length];
 
 		/*
@@ -79,6 +79,15 @@ public class MIDataListRegisterValuesInfo extends MIInfo {
 			List<MIRegisterValue> aList = new ArrayList<>();
 			int[] wantedRegNos = command.getRegList();
 
+			/*
+			 * A command without a list of numbers wants all the registers.
+			 */
+			if (wantedRegNos == null || wantedRegNos.length == 0) {
+				@SuppressWarnings("unchecked")
+				V vAll = (V) this;
+				return vAll;
+			}
+
 			/*
 			 * Search through the larger answer set finding the ones we want.
 			 */
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.gdb.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMData;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.IMIExecutionDMContext;
+import org.eclipse.cdt.dsf.mi.service.MIStack;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
+import org.eclipse.cdt.tests.dsf.gdb.framework.SyncUtil;
+import org.eclipse.cdt.tests.dsf.gdb.launching.TestsPlugin;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests the stack service when it is confined to its own executor.
+ */
+@RunWith(Parameterized.class)
+public class ConfinedStackServiceTest extends BaseParametrizedTestCase {
+	private static final String EXEC_NAME = "MultiThread.exe";
+	private static final String SOURCE_NAME = "MultiThread.cc";
+
+	/** Number of times the frames of all the threads are requested at once */
+	private static final int ROUNDS = 500;
+
+	private static boolean fgConfined;
+
+	private DsfSession fSession;
+	private DsfServicesTracker fServicesTracker;
+	private MIStack fStack;
+
+	@BeforeClass
+	public static void doBeforeClass() throws Exception {
+		fgConfined = Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_CONFINED_STACK_SERVICE, false, null);
+	}
+
+	@Override
+	public void doBeforeTest() throws Exception {
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_CONFINED_STACK_SERVICE, true);
+
+		super.doBeforeTest();
+
+		resolveLineTagLocations(SOURCE_NAME, MIRunControlTest.LINE_TAGS);
+
+		fSession = getGDBLaunch().getSession();
+		Runnable runnable = () -> {
+			fServicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(), fSession.getId());
+			fStack = fServicesTracker.getService(MIStack.class);
+		};
+		fSession.getExecutor().submit(runnable).get();
+	}
+
+	@Override
+	public void doAfterTest() throws Exception {
+		super.doAfterTest();
+
+		if (fServicesTracker != null) {
+			fServicesTracker.dispose();
+		}
+
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_CONFINED_STACK_SERVICE, fgConfined);
+	}
+
+	@Override
+	protected void setLaunchAttributes() {
+		super.setLaunchAttributes();
+
+		setLaunchAttribute(ICDTLaunchConfigurationConstants.ATTR_PROGRAM_NAME, EXEC_PATH + EXEC_NAME);
+	}
+
+	@Test
+	public void stackServiceHasOwnExecutor() throws Throwable {
+		assertNotSame(fSession.getExecutor(), fStack.getExecutor());
+
+		SyncUtil.runToLocation(SOURCE_NAME + ':' + getLineForTag("LINE_MAIN_BEFORE_THREAD_START"));
+		IFrameDMData frameData = SyncUtil.getFrameData(0, 0);
+		assertEquals("main", frameData.getFunction());
+		assertTrue(SyncUtil.getStackDepth(SyncUtil.getExecutionContext(0)) > 0);
+	}
+
+	/**
+	 * Requests the frames of all the threads many times at once from the
+	 * session executor, the results must all be returned on the session
+	 * executor.
+	 */
+	@Test
+	public void framesOfAllThreads() throws Throwable {
+		SyncUtil.runToLocation(SOURCE_NAME + ':' + getLineForTag("LINE_MAIN_ALL_THREADS_STARTED"));
+		final IMIExecutionDMContext[] threads = SyncUtil.getExecutionContexts();
+		assertTrue(threads.length > 1);
+
+		Query<Boolean> query = new Query<Boolean>() {
+			@Override
+			protected void execute(final DataRequestMonitor<Boolean> rm) {
+				final boolean[] wrongThread = new boolean[1];
+				CountingRequestMonitor crm = new CountingRequestMonitor(fSession.getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						rm.done(wrongThread[0]);
+					}
+				};
+				crm.setDoneCount(ROUNDS * threads.length);
+				for (int i = 0; i < ROUNDS; i++) {
+					for (IMIExecutionDMContext thread : threads) {
+						fStack.getTopFrame(thread, new ImmediateDataRequestMonitor<IFrameDMContext>(crm) {
+							@Override
+							protected void handleSuccess() {
+								if (!fSession.getExecutor().isInExecutorThread()) {
+									wrongThread[0] = true;
+								}
+								fStack.getFrameData(getData(), new ImmediateDataRequestMonitor<IFrameDMData>(crm) {
+									@Override
+									protected void handleSuccess() {
+										if (!fSession.getExecutor().isInExecutorThread()) {
+											wrongThread[0] = true;
+										}
+										crm.done();
+									}
+								});
+							}
+						});
+					}
+				}
+			}
+		};
+		fSession.getExecutor().execute(query);
+		assertFalse("Result returned outside of the session executor",
+				query.get(TestsPlugin.massageTimeout(30000), TimeUnit.MILLISECONDS));
+	}
+}
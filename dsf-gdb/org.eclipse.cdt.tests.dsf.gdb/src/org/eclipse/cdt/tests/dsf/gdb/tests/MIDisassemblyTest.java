@@ -16,6 +16,7 @@ package org.eclipse.cdt.tests.dsf.gdb.tests;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.math.BigInteger;
@@ -33,9 +34,12 @@ import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
 import org.eclipse.cdt.dsf.debug.service.IInstruction;
 import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StepType;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
 import org.eclipse.cdt.dsf.mi.service.MIDisassembly;
 import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
@@ -76,6 +80,7 @@ public class MIDisassemblyTest extends BaseParametrizedTestCase {
 	private IDisassemblyDMContext fDisassemblyDmc;
 	private MIDisassembly fDisassembly;
 	private IExpressions fExpressionService;
+	private IMICommandControl fCommandControl;
 
 	@Rule
 	final public ExpectedException expectedException = ExpectedException.none();
@@ -99,6 +104,9 @@ public class MIDisassemblyTest extends BaseParametrizedTestCase {
 
 			fExpressionService = fServicesTracker.getService(IExpressions.class);
 			assert (fExpressionService != null);
+
+			fCommandControl = fServicesTracker.getService(IMICommandControl.class);
+			assert (fCommandControl != null);
 		};
 		fSession.getExecutor().submit(runnable).get();
 
@@ -123,6 +131,7 @@ public class MIDisassemblyTest extends BaseParametrizedTestCase {
 		super.doAfterTest();
 
 		fExpressionService = null;
+		fCommandControl = null;
 		fDisassembly = null;
 		if (fServicesTracker != null) {
 			fServicesTracker.dispose();
@@ -488,4 +497,46 @@ public class MIDisassemblyTest extends BaseParametrizedTestCase {
 		}
 		assertThat(total, is(count));
 	}
+
+	// ------------------------------------------------------------------------
+	// readCachedUntilChanged
+	// ------------------------------------------------------------------------
+	@Test(timeout = 20000)
+	public void readCachedUntilChanged() throws Throwable {
+
+		// Setup call parameters
+		Addr64 main = (Addr64) evaluateExpression("&main");
+		BigInteger startAddress = main.getValue();
+		BigInteger endAddress = null;
+
+		// The same request is answered from the cache while suspended
+		IInstruction[] result = getInstruction(fDisassemblyDmc, startAddress, endAddress);
+		assertThat(getInstruction(fDisassemblyDmc, startAddress, endAddress), is(sameInstance(result)));
+
+		// The code does not change when the target runs
+		SyncUtil.step(StepType.STEP_OVER);
+		assertThat(getInstruction(fDisassemblyDmc, startAddress, endAddress), is(sameInstance(result)));
+
+		// Console commands which neither load symbols nor write memory keep the cache
+		queueConsoleCommand("echo");
+		assertThat(getInstruction(fDisassemblyDmc, startAddress, endAddress), is(sameInstance(result)));
+
+		// Loading symbols flushes it
+		queueConsoleCommand("sharedlibrary");
+		IInstruction[] afterSymbols = getInstruction(fDisassemblyDmc, startAddress, endAddress);
+		assertThat(afterSymbols, is(not(sameInstance(result))));
+		assertThat(afterSymbols.length, is(result.length));
+	}
+
+	private void queueConsoleCommand(final String command) throws InterruptedException, ExecutionException {
+		Query<MIInfo> query = new Query<MIInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<MIInfo> rm) {
+				fCommandControl.queueCommand(fCommandControl.getCommandFactory()
+						.createMIInterpreterExecConsole(fCommandControl.getContext(), command), rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		query.get();
+	}
 }
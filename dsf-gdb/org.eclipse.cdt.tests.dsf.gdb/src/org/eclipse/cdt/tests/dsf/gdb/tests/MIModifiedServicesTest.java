@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.tests.dsf.gdb.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -17,27 +18,60 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.eclipse.cdt.debug.core.CDIDebugModel;
 import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
+import org.eclipse.cdt.debug.core.model.ICAddressBreakpoint;
+import org.eclipse.cdt.debug.core.model.ICBreakpoint;
+import org.eclipse.cdt.debug.core.model.ICBreakpointType;
+import org.eclipse.cdt.debug.core.model.ICFunctionBreakpoint;
+import org.eclipse.cdt.debug.core.model.ICLineBreakpoint;
+import org.eclipse.cdt.debug.internal.core.breakpoints.CBreakpoint;
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateCountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.CompositeDMContext;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.FormattedValueDMData;
 import org.eclipse.cdt.dsf.debug.service.IProcesses.IProcessDMContext;
 import org.eclipse.cdt.dsf.debug.service.IProcesses.IThreadDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRegisters;
+import org.eclipse.cdt.dsf.debug.service.IRegisters.IRegisterDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IResumedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
 import org.eclipse.cdt.dsf.gdb.service.GdbDebugServicesFactory;
 import org.eclipse.cdt.dsf.gdb.service.IGDBBackend;
+import org.eclipse.cdt.dsf.gdb.service.command.CommandFactory_6_8;
+import org.eclipse.cdt.dsf.gdb.service.command.GDBControl_7_12;
+import org.eclipse.cdt.dsf.gdb.service.command.IGDBControl;
 import org.eclipse.cdt.dsf.gdb.service.extensions.GDBBackend_HEAD;
 import org.eclipse.cdt.dsf.mi.service.IMIBackend;
 import org.eclipse.cdt.dsf.mi.service.IMIProcesses;
 import org.eclipse.cdt.dsf.mi.service.IMIRunControl;
+import org.eclipse.cdt.dsf.mi.service.MIBreakpointsSynchronizer;
+import org.eclipse.cdt.dsf.mi.service.MIFormat;
+import org.eclipse.cdt.dsf.mi.service.MIRegisters.MIRegisterDMC;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterValues;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakpoint;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIRegisterValue;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
@@ -45,7 +79,10 @@ import org.eclipse.cdt.tests.dsf.gdb.framework.ServiceEventWaitor;
 import org.eclipse.cdt.tests.dsf.gdb.framework.ServiceFactoriesManager;
 import org.eclipse.cdt.tests.dsf.gdb.framework.SyncUtil;
 import org.eclipse.cdt.tests.dsf.gdb.launching.TestsPlugin;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
@@ -55,6 +92,7 @@ import org.junit.runners.Parameterized;
 /**
  * The tests of this class use special versions of services.
  */
+@SuppressWarnings("restriction")
 @RunWith(Parameterized.class)
 public class MIModifiedServicesTest extends BaseParametrizedTestCase {
 
@@ -102,6 +140,91 @@ public class MIModifiedServicesTest extends BaseParametrizedTestCase {
 		}
 	}
 
+	/**
+	 * A command factory whose command listing all the register values is refused by GDB,
+	 * so that the register values can only be read one by one.
+	 */
+	private class TestCommandFactoryNoRegisterList extends CommandFactory_6_8 {
+		private int fSingleRegisterCommands;
+
+		@Override
+		public ICommand<MIDataListRegisterValuesInfo> createMIDataListRegisterValues(IFrameDMContext ctx, int fmt) {
+			return new MICommand<MIDataListRegisterValuesInfo>(ctx, "-data-list-register-values",
+					new String[] { "x" }, new String[] { "100000" }) {
+				@Override
+				public MIDataListRegisterValuesInfo getResult(MIOutput output) {
+					return new MIDataListRegisterValuesInfo(output);
+				}
+			};
+		}
+
+		@Override
+		public ICommand<MIDataListRegisterValuesInfo> createMIDataListRegisterValues(IFrameDMContext ctx, int fmt,
+				int[] regnos) {
+			fSingleRegisterCommands++;
+			return super.createMIDataListRegisterValues(ctx, fmt, regnos);
+		}
+	}
+
+	/**
+	 * A services factory that uses the test command factory refusing to list all the register values.
+	 */
+	private class TestServicesFactoryNoRegisterList extends GdbDebugServicesFactory {
+		private final TestCommandFactoryNoRegisterList fCommandFactory = new TestCommandFactoryNoRegisterList();
+
+		public TestServicesFactoryNoRegisterList(String version, ILaunchConfiguration config) {
+			super(version, config);
+		}
+
+		@Override
+		protected ICommandControl createCommandControl(DsfSession session, ILaunchConfiguration config) {
+			return new GDBControl_7_12(session, config, fCommandFactory);
+		}
+	}
+
+	/**
+	 * A breakpoints synchronizer which also considers a target breakpoint to be the
+	 * same as any platform line breakpoint of its file, whatever its line.
+	 */
+	private class TestBreakpointsSynchronizerAnyLine extends MIBreakpointsSynchronizer {
+		public TestBreakpointsSynchronizerAnyLine(DsfSession session) {
+			super(session);
+		}
+
+		@Override
+		protected boolean isPlatformBreakpoint(ICBreakpoint platformBreakpoint, MIBreakpoint targetBreakpoint,
+				String fileName) {
+			if (super.isPlatformBreakpoint(platformBreakpoint, targetBreakpoint, fileName)) {
+				return true;
+			}
+			if (!(platformBreakpoint instanceof ICLineBreakpoint) || platformBreakpoint instanceof ICFunctionBreakpoint
+					|| platformBreakpoint instanceof ICAddressBreakpoint || fileName == null) {
+				return false;
+			}
+			try {
+				String sourceHandle = ((ICLineBreakpoint) platformBreakpoint).getSourceHandle();
+				return sourceHandle != null
+						&& new Path(sourceHandle).lastSegment().equals(new Path(fileName).lastSegment());
+			} catch (CoreException e) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * A services factory that uses the test breakpoints synchronizer service.
+	 */
+	private class TestServicesFactoryBreakpointsSynchronizer extends GdbDebugServicesFactory {
+		public TestServicesFactoryBreakpointsSynchronizer(String version, ILaunchConfiguration config) {
+			super(version, config);
+		}
+
+		@Override
+		protected MIBreakpointsSynchronizer createBreakpointsSynchronizerService(DsfSession session) {
+			return new TestBreakpointsSynchronizerAnyLine(session);
+		}
+	}
+
 	@Override
 	public void doBeforeTest() throws Exception {
 		removeTeminatedLaunchesBeforeTest();
@@ -204,12 +327,15 @@ public class MIModifiedServicesTest extends BaseParametrizedTestCase {
 	}
 
 	protected void registerServicesFactoryForBasicConsole() throws CoreException {
+		registerServicesFactory(new TestServicesFactoryBasicConsole(getGdbVersion(), getLaunchConfiguration()));
+	}
+
+	private void registerServicesFactory(GdbDebugServicesFactory servicesFactory) throws CoreException {
 		// Resolve a unique id for the Test Debug services factory
 		String servicesFactoryId = this.getClass().getName() + "#" + testName.getMethodName();
 
 		// Register this test case factory
-		getServiceFactoriesManager().addTestServicesFactory(servicesFactoryId,
-				new TestServicesFactoryBasicConsole(getGdbVersion(), getLaunchConfiguration()));
+		getServiceFactoriesManager().addTestServicesFactory(servicesFactoryId, servicesFactory);
 
 		// Register the factory id using a launch attribute, so it can be later resolved
 		// e.g. by a test launch delegate
@@ -335,4 +461,135 @@ public class MIModifiedServicesTest extends BaseParametrizedTestCase {
 
 		interruptRunningTargetExe();
 	}
+
+	private void queueConsoleCommand(String command) throws Exception {
+		final DsfSession session = getGDBLaunch().getSession();
+		Query<MIInfo> query = new Query<MIInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<MIInfo> rm) {
+				DsfServicesTracker servicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(),
+						session.getId());
+				IGDBControl commandControl = servicesTracker.getService(IGDBControl.class);
+				servicesTracker.dispose();
+				commandControl.queueCommand(commandControl.getCommandFactory()
+						.createMIInterpreterExecConsole(commandControl.getContext(), command), rm);
+			}
+		};
+		session.getExecutor().execute(query);
+		query.get(TestsPlugin.massageTimeout(5000), TimeUnit.MILLISECONDS);
+	}
+
+	private void waitForInstallCount(CBreakpoint plBpt, int expected) throws Exception {
+		long timeout = TestsPlugin.massageTimeout(5000);
+		long startMs = System.currentTimeMillis();
+		while (plBpt.getInstallCount() != expected) {
+			if (System.currentTimeMillis() - startMs > timeout) {
+				Assert.fail("Timed out waiting for the install count to become " + expected);
+			}
+			Thread.sleep(30);
+		}
+	}
+
+	/**
+	 * Validate that the breakpoints synchronizer relies on an overridden isPlatformBreakpoint() to match a
+	 * breakpoint set from the console with a platform breakpoint, and not only on the line numbers.
+	 */
+	@Test
+	public void consoleBreakpointMatchedByOverriddenSynchronizer() throws Throwable {
+		registerServicesFactory(
+				new TestServicesFactoryBreakpointsSynchronizer(getGdbVersion(), getLaunchConfiguration()));
+
+		doLaunch();
+
+		String sourceHandle = new Path(SOURCE_PATH + SOURCE_NAME).toFile().getAbsolutePath();
+		ICLineBreakpoint plBpt = CDIDebugModel.createLineBreakpoint(sourceHandle,
+				ResourcesPlugin.getWorkspace().getRoot(), ICBreakpointType.REGULAR,
+				getLineForTag("LINE_MAIN_BEFORE_THREAD_START"), true, 0, "", true);
+		waitForInstallCount((CBreakpoint) plBpt, 1);
+
+		// Set a breakpoint on another line of the same file from the console. The test
+		// synchronizer considers it the same as the platform breakpoint, so it must not
+		// create a second platform breakpoint.
+		queueConsoleCommand(
+				String.format("break %s:%d", SOURCE_NAME, getLineForTag("LINE_MAIN_ALL_THREADS_STARTED")));
+		waitForInstallCount((CBreakpoint) plBpt, 2);
+		assertEquals(1, DebugPlugin.getDefault().getBreakpointManager().getBreakpoints().length);
+	}
+
+	/**
+	 * Validate that the register values are still read when GDB refuses to list all of them at once,
+	 * by reading each register on its own.
+	 */
+	@Test
+	public void registerValuesReadOneByOne() throws Throwable {
+		assumeGdbVersionAtLeast(ITestConstants.SUFFIX_GDB_7_12);
+
+		TestServicesFactoryNoRegisterList servicesFactory = new TestServicesFactoryNoRegisterList(getGdbVersion(),
+				getLaunchConfiguration());
+		registerServicesFactory(servicesFactory);
+
+		doLaunch();
+
+		final DsfSession session = getGDBLaunch().getSession();
+		final IFrameDMContext frameDmc = SyncUtil.getStackFrame(fThreadExecDmc, 0);
+		Query<Map<Integer, String>> query = new Query<Map<Integer, String>>() {
+			@Override
+			protected void execute(final DataRequestMonitor<Map<Integer, String>> rm) {
+				DsfServicesTracker servicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(),
+						session.getId());
+				final IRegisters registers = servicesTracker.getService(IRegisters.class);
+				servicesTracker.dispose();
+				registers.getRegisters(new CompositeDMContext(new IDMContext[] { fContainerDmc, frameDmc }),
+						new ImmediateDataRequestMonitor<IRegisterDMContext[]>(rm) {
+							@Override
+							protected void handleSuccess() {
+								final Map<Integer, String> values = new HashMap<>();
+								CountingRequestMonitor crm = new ImmediateCountingRequestMonitor(rm) {
+									@Override
+									protected void handleSuccess() {
+										rm.done(values);
+									}
+								};
+								crm.setDoneCount(getData().length);
+								for (final IRegisterDMContext regDmc : getData()) {
+									registers.getFormattedExpressionValue(
+											registers.getFormattedValueContext(regDmc, IFormattedValues.HEX_FORMAT),
+											new ImmediateDataRequestMonitor<FormattedValueDMData>(crm) {
+												@Override
+												protected void handleSuccess() {
+													values.put(((MIRegisterDMC) regDmc).getRegNo(),
+															getData().getFormattedValue());
+													crm.done();
+												}
+											});
+								}
+							}
+						});
+			}
+		};
+		session.getExecutor().execute(query);
+		Map<Integer, String> values = query.get(TestsPlugin.massageTimeout(5000), TimeUnit.MILLISECONDS);
+
+		assertFalse(values.isEmpty());
+		assertEquals(values.size(), servicesFactory.fCommandFactory.fSingleRegisterCommands);
+
+		// The values must be the same as the ones GDB lists all at once
+		Query<MIDataListRegisterValuesInfo> listQuery = new Query<MIDataListRegisterValuesInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<MIDataListRegisterValuesInfo> rm) {
+				DsfServicesTracker servicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(),
+						session.getId());
+				IGDBControl commandControl = servicesTracker.getService(IGDBControl.class);
+				servicesTracker.dispose();
+				commandControl.queueCommand(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL), rm);
+			}
+		};
+		session.getExecutor().execute(listQuery);
+		MIRegisterValue[] listedValues = listQuery.get(TestsPlugin.massageTimeout(5000), TimeUnit.MILLISECONDS)
+				.getMIRegisterValues();
+		assertEquals(listedValues.length, values.size());
+		for (MIRegisterValue listedValue : listedValues) {
+			assertEquals(listedValue.getValue(), values.get(listedValue.getNumber()));
+		}
+	}
 }
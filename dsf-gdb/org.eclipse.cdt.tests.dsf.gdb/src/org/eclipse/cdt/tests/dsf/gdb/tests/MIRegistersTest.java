@@ -21,6 +21,8 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -59,8 +61,13 @@ import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StepType;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisters;
+import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
+import org.eclipse.cdt.dsf.mi.service.MIFormat;
 import org.eclipse.cdt.dsf.mi.service.MIRegisters.MIRegisterDMC;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterValues;
 import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIRegisterValue;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
@@ -296,6 +303,61 @@ public class MIRegistersTest extends BaseParametrizedTestCase {
 		return data.getFormattedValue();
 	}
 
+	@Test
+	public void coalesceRegisterValuesCommands() throws Throwable {
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(getInitialStoppedEvent().getDMContext(), 0);
+		MIDataListRegisterValues cmd = new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL,
+				new int[] { 0, 1 });
+
+		// Registers asked by both commands are only asked once
+		MIDataListRegisterValues coalesced = cmd
+				.coalesceWith(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, new int[] { 1, 2 }));
+		assertNotNull(coalesced);
+		assertTrue(Arrays.equals(new int[] { 0, 1, 2 }, coalesced.getRegList()));
+
+		// A command without register numbers asks for all of them
+		coalesced = cmd.coalesceWith(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL));
+		assertNotNull(coalesced);
+		assertNull(coalesced.getRegList());
+		coalesced = new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL).coalesceWith(cmd);
+		assertNotNull(coalesced);
+		assertNull(coalesced.getRegList());
+
+		// Values in different formats cannot be asked at once
+		assertNull(cmd.coalesceWith(new MIDataListRegisterValues(frameDmc, MIFormat.DECIMAL, new int[] { 2 })));
+	}
+
+	@Test
+	public void registerValuesSubsetResult() throws Throwable {
+		final IFrameDMContext frameDmc = SyncUtil.getStackFrame(getInitialStoppedEvent().getDMContext(), 0);
+		Query<MIDataListRegisterValuesInfo> query = new Query<MIDataListRegisterValuesInfo>() {
+			@Override
+			protected void execute(DataRequestMonitor<MIDataListRegisterValuesInfo> rm) {
+				IMICommandControl commandControl = fServicesTracker.getService(IMICommandControl.class);
+				commandControl.queueCommand(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL), rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		MIDataListRegisterValuesInfo allValues = query.get(TestsPlugin.massageTimeout(500), TimeUnit.MILLISECONDS);
+		MIRegisterValue[] all = allValues.getMIRegisterValues();
+		assertTrue(all.length > 2);
+
+		// The subset keeps the order of the full result
+		MIRegisterValue[] subset = allValues
+				.getSubsetResult(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL,
+						new int[] { all[2].getNumber(), all[0].getNumber() }))
+				.getMIRegisterValues();
+		assertEquals(2, subset.length);
+		assertEquals(all[0].getNumber(), subset[0].getNumber());
+		assertEquals(all[0].getValue(), subset[0].getValue());
+		assertEquals(all[2].getNumber(), subset[1].getNumber());
+		assertEquals(all[2].getValue(), subset[1].getValue());
+
+		// A command without register numbers gets the full result
+		assertSame(allValues,
+				allValues.getSubsetResult(new MIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL)));
+	}
+
 	@Test
 	public void getModelDataForRegisterDataValueInDifferentNumberFormats() throws Throwable {
 		MIStoppedEvent stoppedEvent = getInitialStoppedEvent();
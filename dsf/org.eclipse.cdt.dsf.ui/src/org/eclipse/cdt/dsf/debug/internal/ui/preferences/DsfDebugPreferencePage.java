@@ -97,6 +97,15 @@ public class DsfDebugPreferencePage extends FieldEditorPreferencePage implements
 		minIntervalEditor.fillIntoGrid(performanceGroup, 3);
 		addField(minIntervalEditor);
 
+		// delay before updating the views after a burst of events
+		IntegerFieldEditor coalescingDelayEditor = new DecoratingIntegerFieldEditor(
+				IDsfDebugUIConstants.PREF_EVENT_COALESCING_DELAY,
+				MessagesForPreferences.DsfDebugPreferencePage_eventCoalescingDelay_label, performanceGroup);
+
+		coalescingDelayEditor.setValidRange(0, 10000);
+		coalescingDelayEditor.fillIntoGrid(performanceGroup, 3);
+		addField(coalescingDelayEditor);
+
 		// need to set layout again
 		performanceGroup.setLayout(groupLayout);
 	}
@@ -20,6 +20,7 @@ import org.eclipse.osgi.util.NLS;
  */
 class MessagesForPreferences extends NLS {
 	public static String DsfDebugPreferencePage_description;
+	public static String DsfDebugPreferencePage_eventCoalescingDelay_label;
 	public static String DsfDebugPreferencePage_limitStackFrames_label;
 
 	public static String DsfDebugPreferencePage_minStepInterval_label;
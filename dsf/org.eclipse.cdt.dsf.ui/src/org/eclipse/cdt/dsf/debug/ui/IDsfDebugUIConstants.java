@@ -66,6 +66,17 @@ public interface IDsfDebugUIConstants {
 	 */
 	public static final String PREF_MIN_STEP_INTERVAL = "minStepInterval"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference for the time (in milliseconds) that the Debug view holds
+	 * the first model event of a burst before processing it, so that the events of
+	 * the burst which supersede it, e.g. of a thread stepping quickly, are coalesced
+	 * into fewer view updates.
+	 * Default is <code>0</code>, which processes events immediately.
+	 *
+	 * @since 2.6
+	 */
+	public static final String PREF_EVENT_COALESCING_DELAY = "eventCoalescingDelay"; //$NON-NLS-1$
+
 	/**
 	 * @since 1.1
 	 */
@@ -82,6 +82,7 @@ public class AbstractLaunchVMProvider extends AbstractDMVMProvider
 			getPresentationContext().setProperty(IDsfDebugUIConstants.PREF_STACK_FRAME_LIMIT,
 					store.getInt(IDsfDebugUIConstants.PREF_STACK_FRAME_LIMIT));
 		}
+		setEventCoalescingDelay(store.getInt(IDsfDebugUIConstants.PREF_EVENT_COALESCING_DELAY));
 
 		fPreferencesListener = event -> handlePropertyChanged(store, event);
 		store.addPropertyChangeListener(fPreferencesListener);
@@ -300,6 +301,9 @@ public class AbstractLaunchVMProvider extends AbstractDMVMProvider
 				getPresentationContext().setProperty(IDsfDebugUIConstants.PREF_STACK_FRAME_LIMIT, null);
 			}
 			processEvent = true;
+		} else if (IDsfDebugUIConstants.PREF_EVENT_COALESCING_DELAY.equals(property)) {
+			final int delay = store.getInt(IDsfDebugUIConstants.PREF_EVENT_COALESCING_DELAY);
+			getExecutor().execute(() -> setEventCoalescingDelay(delay));
 		} else if (IDsfDebugUIConstants.DEBUG_VIEW_SHOW_FULL_PATH_PROPERTY.equals(property)) {
 			getPresentationContext().setProperty(IDsfDebugUIConstants.DEBUG_VIEW_SHOW_FULL_PATH_PROPERTY,
 					event.getNewValue());
@@ -21,6 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -171,10 +174,35 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 
 		/** The queue */
 		List<EventInfo> fEventQueue = new LinkedList<>();
+
+		/**
+		 * Whether an event was held for the coalescing delay since the queue
+		 * was last empty.  Only the first event of a burst is held, the events
+		 * queued behind it are then processed without delay.
+		 */
+		boolean fBurstDelayed;
 	}
 
 	private Map<IVMModelProxy, ModelProxyEventQueue> fProxyEventQueues = new HashMap<>();
 
+	/**
+	 * Time (in milliseconds) that an event waits before being processed, so that
+	 * events arriving in quick succession can be skipped in its favor.  Zero
+	 * means that events are processed as soon as they are received.
+	 */
+	private int fEventCoalescingDelay = 0;
+
+	/**
+	 * Timer shared by all providers to wait for the coalescing delay.  The
+	 * held events are then processed on the executor of their provider.
+	 */
+	private static final ScheduledExecutorService fgCoalescingTimer = new ScheduledThreadPoolExecutor(1,
+			runnable -> {
+				Thread thread = new Thread(runnable, "DSF VM event coalescing timer"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+
 	/**
 	 * Constructs the view model provider for given DSF session.  The
 	 * constructor is thread-safe to allow VM provider to be constructed
@@ -349,19 +377,141 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 		assert queue.fCurrentEvent == null && queue.fCurrentRm == null;
 
 		queue.fCurrentEvent = eventInfo;
-		queue.fCurrentRm = new RequestMonitor(getExecutor(), eventInfo.fClientRm) {
+		final RequestMonitor currentRm = new RequestMonitor(getExecutor(), eventInfo.fClientRm) {
 			@Override
 			protected void handleCompleted() {
 				eventInfo.fClientRm.done();
 				queue.fCurrentEvent = null;
 				queue.fCurrentRm = null;
+				if (queue.fEventQueue.isEmpty()) {
+					queue.fBurstDelayed = false;
+				}
 				if (!queue.fEventQueue.isEmpty() && !fDisposed) {
-					EventInfo nextEventInfo = queue.fEventQueue.remove(0);
+					EventInfo nextEventInfo = queue.fEventQueue.remove(getNextEventIndex(proxyStrategy, queue));
 					doHandleEvent(queue, proxyStrategy, nextEventInfo);
 				}
 			}
 		};
-		handleEvent(proxyStrategy, eventInfo.fEvent, queue.fCurrentRm);
+		queue.fCurrentRm = currentRm;
+
+		if (fEventCoalescingDelay <= 0 || queue.fBurstDelayed) {
+			handleEvent(proxyStrategy, eventInfo.fEvent, currentRm);
+			return;
+		}
+
+		// Hold the first event of a burst for the coalescing delay.  Events
+		// received meanwhile are queued behind it and, if they supersede it,
+		// cancel its request monitor (see handleEvent(Object, RequestMonitor)),
+		// in which case the event is dropped without flushing caches or
+		// generating a delta.  The events remaining in the queue are processed
+		// without further delay, so that events which do not supersede each
+		// other, e.g. of different threads, are not delayed one after the other.
+		queue.fBurstDelayed = true;
+		if (DEBUG_DELTA
+				&& (DEBUG_PRESENTATION_ID == null || getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
+			trace(eventInfo.fEvent, null, proxyStrategy, EventHandlerAction.delayed);
+		}
+		executeDelayed(() -> {
+			if (currentRm.isCanceled() || fDisposed) {
+				currentRm.done();
+			} else {
+				handleEvent(proxyStrategy, eventInfo.fEvent, currentRm);
+			}
+		}, fEventCoalescingDelay);
+	}
+
+	/**
+	 * Returns the index in the given queue of the next event to process for
+	 * the given model proxy, as selected by {@link #selectNextEvent(IVMModelProxy, List)}.
+	 */
+	private int getNextEventIndex(IVMModelProxy proxyStrategy, ModelProxyEventQueue queue) {
+		if (queue.fEventQueue.size() < 2) {
+			return 0;
+		}
+		List<Object> events = new ArrayList<>(queue.fEventQueue.size());
+		for (EventInfo eventInfo : queue.fEventQueue) {
+			events.add(eventInfo.fEvent);
+		}
+		int index = selectNextEvent(proxyStrategy, events);
+		if (index <= 0 || index >= events.size()) {
+			return 0;
+		}
+		if (DEBUG_DELTA
+				&& (DEBUG_PRESENTATION_ID == null || getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
+			trace(events.get(index), null, proxyStrategy, EventHandlerAction.prioritized);
+		}
+		return index;
+	}
+
+	/**
+	 * Selects which of the queued events to process next for the given model
+	 * proxy.  Sub-classes can override it to first process the events of the
+	 * elements visible in the viewer, e.g. when many threads suspend at once.
+	 * An event should only be moved ahead of events that do not affect the
+	 * same elements, as the events of a given element must be processed in
+	 * the order they were received.
+	 * <p>
+	 * The default implementation processes the events in the order they were
+	 * received.  Called on the provider executor.
+	 * </p>
+	 * @param proxyStrategy the model proxy the events are queued for
+	 * @param events the queued events, in the order they were received, at
+	 * least two of them
+	 * @return the index of the next event to process
+	 * @since 2.6
+	 */
+	protected int selectNextEvent(IVMModelProxy proxyStrategy, List<Object> events) {
+		return 0;
+	}
+
+	/**
+	 * Executes the given runnable on the provider executor once the given
+	 * delay has elapsed.  It is used to hold the first event of a burst, see
+	 * {@link #setEventCoalescingDelay(int)}.
+	 *
+	 * @param runnable the runnable to execute
+	 * @param delay the delay in milliseconds
+	 * @since 2.6
+	 */
+	protected void executeDelayed(final Runnable runnable, int delay) {
+		fgCoalescingTimer.schedule(() -> {
+			try {
+				getExecutor().execute(runnable);
+			} catch (RejectedExecutionException e) {
+				// Ignore.  This exception could be thrown if the provider is being
+				// shut down.
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Sets the time (in milliseconds) that the first event of a burst is held
+	 * before it is processed.  Events received while an event is held are
+	 * compared to it using {@link #canSkipHandlingEvent(Object, Object)}, so
+	 * that a burst of events, e.g. a thread suspending repeatedly in quick
+	 * succession, results in a single cache flush and model delta instead of
+	 * one per event.  Events queued behind the held event are processed
+	 * without further delay once it has been handled.
+	 * <p>
+	 * Zero, the default, processes events as soon as they are received.
+	 * Must be called on the provider executor.
+	 * </p>
+	 * @param delay the coalescing delay in milliseconds
+	 * @since 2.6
+	 */
+	protected void setEventCoalescingDelay(int delay) {
+		fEventCoalescingDelay = Math.max(delay, 0);
+	}
+
+	/**
+	 * Returns the time (in milliseconds) that an event is held before it is
+	 * processed.
+	 *
+	 * @see #setEventCoalescingDelay(int)
+	 * @since 2.6
+	 */
+	protected int getEventCoalescingDelay() {
+		return fEventCoalescingDelay;
 	}
 
 	/**
@@ -802,7 +952,7 @@ abstract public class AbstractVMProvider implements IVMProvider, IVMEventListene
 	 * Used for tracing event handling
 	 */
 	private enum EventHandlerAction {
-		received, queued, processing, firedDeltaFor, skipped, canceled
+		received, queued, delayed, prioritized, processing, firedDeltaFor, skipped, canceled
 	}
 
 	/**
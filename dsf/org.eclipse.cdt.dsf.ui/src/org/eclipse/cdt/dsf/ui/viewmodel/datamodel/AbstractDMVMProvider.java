@@ -13,15 +13,27 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.ui.viewmodel.datamodel;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.datamodel.IDMEvent;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.dsf.ui.viewmodel.AbstractVMAdapter;
+import org.eclipse.cdt.dsf.ui.viewmodel.IVMModelProxy;
 import org.eclipse.cdt.dsf.ui.viewmodel.IVMNode;
 import org.eclipse.cdt.dsf.ui.viewmodel.update.AbstractCachingVMProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelProxy;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.provisional.IAsynchronousContentAdapter;
 import org.eclipse.debug.internal.ui.viewers.provisional.IAsynchronousLabelAdapter;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 
 /**
  * View model provider implements the asynchronous view model functionality for
@@ -60,4 +72,93 @@ abstract public class AbstractDMVMProvider extends AbstractCachingVMProvider {
 	public DsfSession getSession() {
 		return fSession;
 	}
+
+	/**
+	 * Processes first the event of an element visible in the viewer, e.g.
+	 * of a thread in the viewport when many threads suspend at once.  The
+	 * event is only moved ahead of the events of unrelated elements.
+	 *
+	 * @since 2.6
+	 */
+	@Override
+	protected int selectNextEvent(IVMModelProxy proxyStrategy, List<Object> events) {
+		Set<IDMContext> visibleContexts = getVisibleContexts(proxyStrategy.getViewer());
+		if (visibleContexts.isEmpty()) {
+			return 0;
+		}
+		for (int i = 0; i < events.size(); i++) {
+			if (!(events.get(i) instanceof IDMEvent<?>)) {
+				return 0;
+			}
+			IDMContext context = ((IDMEvent<?>) events.get(i)).getDMContext();
+			if (context != null && isVisible(context, visibleContexts) && !isRelatedToPrevious(context, events, i)) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	private static boolean isVisible(IDMContext context, Set<IDMContext> visibleContexts) {
+		if (visibleContexts.contains(context)) {
+			return true;
+		}
+		for (IDMContext visibleContext : visibleContexts) {
+			if (DMContexts.isAncestorOf(visibleContext, context)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isRelatedToPrevious(IDMContext context, List<Object> events, int index) {
+		for (int i = 0; i < index; i++) {
+			IDMContext previous = ((IDMEvent<?>) events.get(i)).getDMContext();
+			if (previous == null || context.equals(previous) || DMContexts.isAncestorOf(context, previous)
+					|| DMContexts.isAncestorOf(previous, context)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the contexts of the elements in the viewport of the given
+	 * viewer, or an empty set if they cannot be determined.
+	 */
+	private static Set<IDMContext> getVisibleContexts(Viewer viewer) {
+		Set<IDMContext> contexts = new HashSet<>();
+		if (!(viewer instanceof TreeViewer)) {
+			return contexts;
+		}
+		Tree tree = ((TreeViewer) viewer).getTree();
+		if (tree.isDisposed() || tree.getDisplay().getThread() != Thread.currentThread()) {
+			return contexts;
+		}
+		int itemHeight = Math.max(1, tree.getItemHeight());
+		int count = tree.getClientArea().height / itemHeight + 1;
+		TreeItem item = tree.getTopItem();
+		for (int i = 0; i < count && item != null; i++) {
+			if (item.getData() instanceof IDMVMContext) {
+				contexts.add(((IDMVMContext) item.getData()).getDMContext());
+			}
+			item = getNextVisibleItem(item);
+		}
+		return contexts;
+	}
+
+	private static TreeItem getNextVisibleItem(TreeItem item) {
+		if (item.getExpanded() && item.getItemCount() > 0) {
+			return item.getItem(0);
+		}
+		while (item != null) {
+			TreeItem parent = item.getParentItem();
+			int index = parent != null ? parent.indexOf(item) : item.getParent().indexOf(item);
+			int siblingCount = parent != null ? parent.getItemCount() : item.getParent().getItemCount();
+			if (index + 1 < siblingCount) {
+				return parent != null ? parent.getItem(index + 1) : item.getParent().getItem(index + 1);
+			}
+			item = parent;
+		}
+		return null;
+	}
 }
@@ -54,8 +54,11 @@ abstract public class AbstractDsfService implements IDsfService, IDsfStatusConst
 	/** Properties that this service was registered with */
 	private String fFilter;
 
+	/** Executor this service is confined to, <code>null</code> if it uses the session executor. */
+	private DsfExecutor fExecutor;
+
 	/**
-	 * Only constructor, requires a reference to the session that this
+	 * Constructor, requires a reference to the session that this
 	 * service  belongs to.
 	 * @param session
 	 */
@@ -63,9 +66,31 @@ abstract public class AbstractDsfService implements IDsfService, IDsfStatusConst
 		fSession = session;
 	}
 
+	/**
+	 * Creates a service that is confined to its own executor rather than to
+	 * the session executor.  This is intended for services whose state is not
+	 * shared with other services, e.g. read-only data caching layers, so that
+	 * their work does not serialize behind the rest of the session.
+	 * <p>
+	 * Service events are delivered to such a service on its own executor.
+	 * Calls between the service and other services must go through their
+	 * respective executors, e.g. by using an
+	 * {@link org.eclipse.cdt.dsf.concurrent.ImmediateInDsfExecutor}
+	 * for the request monitors passed across.  The executor is not shut down
+	 * by this class, the service or its creator is responsible for that.
+	 *
+	 * @param session session this service belongs to
+	 * @param executor executor this service is confined to
+	 * @since 2.9
+	 */
+	public AbstractDsfService(DsfSession session, DsfExecutor executor) {
+		fSession = session;
+		fExecutor = executor;
+	}
+
 	@Override
 	public DsfExecutor getExecutor() {
-		return fSession.getExecutor();
+		return fExecutor != null ? fExecutor : fSession.getExecutor();
 	}
 
 	/**
@@ -531,23 +531,43 @@ public class DsfSession {
 
 		// Call the listeners
 		for (Map.Entry<ListenerEntry, List<Method>> entry : listeners.entrySet()) {
-			for (Method method : entry.getValue()) {
-				try {
-					if (DEBUG_SESSION_DISPATCHES) {
-						DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
-								+ LoggingUtils.toString(entry.getKey().fListener) + " invoked with event " //$NON-NLS-1$
-								+ LoggingUtils.toString(event));
+			final Object listener = entry.getKey().fListener;
+			final List<Method> methods = entry.getValue();
+			DsfExecutor listenerExecutor = listener instanceof IDsfService ? ((IDsfService) listener).getExecutor()
+					: null;
+			if (listenerExecutor != null && listenerExecutor != getExecutor()) {
+				// The service is confined to its own executor, deliver the event there.
+				// Events still reach the service in the order they were dispatched since
+				// its executor is single threaded.
+				listenerExecutor.execute(new DsfRunnable() {
+					@Override
+					public void run() {
+						invokeListener(listener, methods, event);
 					}
-					method.invoke(entry.getKey().fListener, new Object[] { event });
-				} catch (IllegalAccessException e) {
-					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
-							"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
-					assert false : "IServiceEventListener.ServiceHandlerMethod method not accessible, is listener declared public?"; //$NON-NLS-1$
-				} catch (InvocationTargetException e) {
-					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
-							"Invocation exception when calling a service event handler method", e)); //$NON-NLS-1$
-					assert false : "Exception thrown by a IServiceEventListener.ServiceHandlerMethod method"; //$NON-NLS-1$
+				});
+			} else {
+				invokeListener(listener, methods, event);
+			}
+		}
+	}
+
+	private void invokeListener(Object listener, List<Method> methods, Object event) {
+		for (Method method : methods) {
+			try {
+				if (DEBUG_SESSION_DISPATCHES) {
+					DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
+							+ LoggingUtils.toString(listener) + " invoked with event " //$NON-NLS-1$
+							+ LoggingUtils.toString(event));
 				}
+				method.invoke(listener, new Object[] { event });
+			} catch (IllegalAccessException e) {
+				DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
+						"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
+				assert false : "IServiceEventListener.ServiceHandlerMethod method not accessible, is listener declared public?"; //$NON-NLS-1$
+			} catch (InvocationTargetException e) {
+				DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
+						"Invocation exception when calling a service event handler method", e)); //$NON-NLS-1$
+				assert false : "Exception thrown by a IServiceEventListener.ServiceHandlerMethod method"; //$NON-NLS-1$
 			}
 		}
 	}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.DsfTestPlugin;
+import org.eclipse.cdt.tests.dsf.TestDsfExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests delivery of service events to a service confined to its own executor.
+ */
+public class ConfinedServiceEventTest {
+
+	private static final int EVENT_COUNT = 1000;
+
+	/** Number of threads simulated by the stress test */
+	private static final int THREAD_COUNT = 5000;
+
+	DsfSession fSession;
+	TestDsfExecutor fExecutor;
+	DefaultDsfExecutor fConfinedExecutor;
+	ConfinedService fService;
+
+	public static class TestEvent {
+		final int fNumber;
+
+		TestEvent(int number) {
+			fNumber = number;
+		}
+	}
+
+	public static class ConfinedService extends AbstractDsfService {
+		final List<Integer> fReceived = Collections.synchronizedList(new ArrayList<Integer>());
+		final CountDownLatch fAllReceived = new CountDownLatch(EVENT_COUNT);
+		volatile boolean fWrongThread;
+		/** Number of events received for each thread, only used on the confined executor */
+		final Map<Integer, Integer> fEventCounts = new HashMap<>();
+
+		ConfinedService(DsfSession session, DsfExecutor executor) {
+			super(session, executor);
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return DsfTestPlugin.getBundleContext();
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(TestEvent e) {
+			if (!getExecutor().isInExecutorThread() || getSession().getExecutor().isInExecutorThread()) {
+				fWrongThread = true;
+			}
+			fReceived.add(e.fNumber);
+			Integer count = fEventCounts.get(e.fNumber);
+			fEventCounts.put(e.fNumber, count != null ? count + 1 : 1);
+			fAllReceived.countDown();
+		}
+
+		/**
+		 * Returns the number of events received for the given thread, the
+		 * request monitor is completed on the session executor.
+		 */
+		public void getEventCount(final int thread, final DataRequestMonitor<Integer> rm) {
+			getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					Integer count = fEventCounts.get(thread);
+					final int result = count != null ? count : 0;
+					getSession().getExecutor().execute(new DsfRunnable() {
+						@Override
+						public void run() {
+							rm.done(result);
+						}
+					});
+				}
+			});
+		}
+	}
+
+	@Before
+	public void startSession() throws ExecutionException, InterruptedException {
+		fExecutor = new TestDsfExecutor();
+		fConfinedExecutor = new DefaultDsfExecutor("Confined executor"); //$NON-NLS-1$
+
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				fSession = DsfSession.startSession(fExecutor, "org.eclipse.cdt.tests.dsf"); //$NON-NLS-1$
+				fService = new ConfinedService(fSession, fConfinedExecutor);
+				fSession.addServiceEventListener(fService, null);
+			}
+		}).get();
+	}
+
+	@After
+	public void endSession() throws ExecutionException, InterruptedException {
+		fExecutor.submit(new DsfRunnable() {
+			@Override
+			public void run() {
+				fSession.removeServiceEventListener(fService);
+				DsfSession.endSession(fSession);
+				fSession = null;
+				fExecutor.shutdown();
+			}
+		}).get();
+		fConfinedExecutor.shutdown();
+
+		if (fExecutor.exceptionsCaught()) {
+			Throwable[] exceptions = fExecutor.getExceptions();
+			throw new ExecutionException(exceptions[0]);
+		}
+		fExecutor = null;
+	}
+
+	@Test
+	public void eventsDeliveredOnConfinedExecutor() throws InterruptedException {
+		Assert.assertSame(fConfinedExecutor, fService.getExecutor());
+
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			fSession.dispatchEvent(new TestEvent(i), null);
+		}
+
+		Assert.assertTrue(fService.fAllReceived.await(30, TimeUnit.SECONDS));
+		Assert.assertFalse("Event handler called outside of the confined executor", fService.fWrongThread); //$NON-NLS-1$
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			Assert.assertEquals(i, fService.fReceived.get(i).intValue());
+		}
+	}
+
+	/**
+	 * Listener asking the confined service about the thread of each event it
+	 * receives, as a view model would.  Being a listener but not a service,
+	 * it is called after the event was queued for the confined service.
+	 */
+	public class RequestingListener {
+		final CountingRequestMonitor fCountingRm;
+		volatile boolean fFailed;
+
+		RequestingListener(CountingRequestMonitor crm) {
+			fCountingRm = crm;
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(TestEvent e) {
+			fService.getEventCount(e.fNumber, new ImmediateDataRequestMonitor<Integer>(fCountingRm) {
+				@Override
+				protected void handleSuccess() {
+					if (getData() != 1 || !fExecutor.isInExecutorThread()) {
+						fFailed = true;
+					}
+					fCountingRm.done();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Dispatches an event for each of many simulated threads, which a listener
+	 * follows with a request to the confined service from the session
+	 * executor.  Each request must see the event dispatched before it.
+	 */
+	@Test
+	public void requestsForManyThreads() throws Exception {
+		Query<Boolean> query = new Query<Boolean>() {
+			@Override
+			protected void execute(final DataRequestMonitor<Boolean> rm) {
+				final RequestingListener[] listener = new RequestingListener[1];
+				CountingRequestMonitor crm = new CountingRequestMonitor(fExecutor, rm) {
+					@Override
+					protected void handleSuccess() {
+						fSession.removeServiceEventListener(listener[0]);
+						rm.done(!listener[0].fFailed);
+					}
+				};
+				crm.setDoneCount(THREAD_COUNT);
+				listener[0] = new RequestingListener(crm);
+				fSession.addServiceEventListener(listener[0], null);
+				for (int i = 0; i < THREAD_COUNT; i++) {
+					fSession.dispatchEvent(new TestEvent(i), null);
+				}
+			}
+		};
+		long start = System.currentTimeMillis();
+		fExecutor.execute(query);
+		Assert.assertTrue(query.get(30, TimeUnit.SECONDS));
+		System.out.println("ConfinedServiceEventTest: " + THREAD_COUNT + " simulated threads in " //$NON-NLS-1$ //$NON-NLS-2$
+				+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		Assert.assertFalse("Event handler called outside of the confined executor", fService.fWrongThread); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.vm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.ui.viewmodel.AbstractVMAdapter;
+import org.eclipse.cdt.dsf.ui.viewmodel.AbstractVMProvider;
+import org.eclipse.cdt.dsf.ui.viewmodel.DefaultVMModelProxyStrategy;
+import org.eclipse.cdt.dsf.ui.viewmodel.IVMModelProxy;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that a VM provider with an event coalescing delay only holds the
+ * first event of a burst.
+ */
+@SuppressWarnings("restriction")
+public class EventCoalescingTest {
+
+	private static final int DELAY = 500;
+	private static final int EVENT_COUNT = 10;
+
+	private IPresentationContext fPresentationContext;
+	private CoalescingVMProvider fVMProvider;
+
+	private static class CoalescingVMProvider extends AbstractVMProvider {
+		final List<Object> fHandledEvents = new ArrayList<>();
+		int fDelayedCount;
+		boolean fLastEventFirst;
+
+		CoalescingVMProvider(AbstractVMAdapter adapter, IPresentationContext context) {
+			super(adapter, context);
+			setEventCoalescingDelay(DELAY);
+			getActiveModelProxies().add(new DefaultVMModelProxyStrategy(this, new Object()) {
+				@Override
+				public boolean isDeltaEvent(Object event) {
+					return true;
+				}
+			});
+		}
+
+		@Override
+		protected void handleEvent(IVMModelProxy proxyStrategy, Object event, RequestMonitor rm) {
+			fHandledEvents.add(event);
+			rm.done();
+		}
+
+		@Override
+		protected void executeDelayed(Runnable runnable, int delay) {
+			fDelayedCount++;
+			super.executeDelayed(runnable, delay);
+		}
+
+		@Override
+		protected int selectNextEvent(IVMModelProxy proxyStrategy, List<Object> events) {
+			return fLastEventFirst ? events.size() - 1 : super.selectNextEvent(proxyStrategy, events);
+		}
+	}
+
+	@Before
+	public void setUp() {
+		fPresentationContext = new PresentationContext("EventCoalescingTest"); //$NON-NLS-1$
+		fVMProvider = new CoalescingVMProvider(new TestModelVMAdapter(), fPresentationContext);
+	}
+
+	@After
+	public void tearDown() {
+		fVMProvider.dispose();
+		fPresentationContext.dispose();
+	}
+
+	/**
+	 * Sends a burst of events which do not supersede each other, e.g. of
+	 * different threads, and waits until they are all handled.
+	 */
+	private void sendBurst() {
+		final boolean[] done = new boolean[1];
+		CountingRequestMonitor crm = new CountingRequestMonitor(ImmediateExecutor.getInstance(), null) {
+			@Override
+			protected void handleCompleted() {
+				done[0] = true;
+			}
+		};
+		crm.setDoneCount(EVENT_COUNT);
+
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			fVMProvider.handleEvent(Integer.valueOf(i), crm);
+		}
+		Assert.assertTrue("First event was not held", fVMProvider.fHandledEvents.isEmpty()); //$NON-NLS-1$
+
+		Display display = Display.getDefault();
+		while (!done[0]) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+		Assert.assertEquals(EVENT_COUNT, fVMProvider.fHandledEvents.size());
+		Assert.assertEquals("Events were delayed one after the other", 1, fVMProvider.fDelayedCount); //$NON-NLS-1$
+	}
+
+	@Test
+	public void burstIsDelayedOnce() {
+		sendBurst();
+
+		for (int i = 0; i < EVENT_COUNT; i++) {
+			Assert.assertEquals(Integer.valueOf(i), fVMProvider.fHandledEvents.get(i));
+		}
+	}
+
+	@Test
+	public void selectedEventIsHandledFirst() {
+		fVMProvider.fLastEventFirst = true;
+		sendBurst();
+
+		// The held event is handled first, then the queued ones as selected
+		Assert.assertEquals(Integer.valueOf(0), fVMProvider.fHandledEvents.get(0));
+		for (int i = 1; i < EVENT_COUNT; i++) {
+			Assert.assertEquals(Integer.valueOf(EVENT_COUNT - i), fVMProvider.fHandledEvents.get(i));
+		}
+	}
+}
@@ -1139,18 +1139,21 @@ public class VT100Emulator implements ControlListener {
 	 * @throws IOException
 	 */
 	private void processNonControlCharacters(char character) throws IOException {
-		StringBuffer buffer = new StringBuffer();
+		StringBuilder buffer = new StringBuilder();
 		buffer.append(character);
-		// Identify a contiguous sequence of non-control characters, starting at
-		// firstNonControlCharacterIndex in newText.
-		while (hasNextChar()) {
-			character = getNextChar();
-			if (character == '\u0000' || character == '\b' || character == '\t' || character == '\u0007'
-					|| character == '\n' || character == '\r' || character == '\u001b') {
-				pushBackChar(character);
-				break;
+		// Identify a contiguous sequence of non-control characters. The sequence
+		// is scanned directly in the read buffer and copied in slices, stopping
+		// at the first control character, which is left in the read buffer.
+		while (buffer.length() < READ_BUFFER_SIZE && (fReadPos < fReadEnd || hasNextChar() && fillReadBuffer())) {
+			int end = fReadPos;
+			while (end < fReadEnd && !isControlCharacter(fReadBuffer[end])) {
+				end++;
 			}
-			buffer.append(character);
+			buffer.append(fReadBuffer, fReadPos, end - fReadPos);
+			boolean found = end < fReadEnd;
+			fReadPos = end;
+			if (found)
+				break;
 		}
 
 		// Now insert the sequence of non-control characters in the StyledText widget
@@ -1159,6 +1162,15 @@ public class VT100Emulator implements ControlListener {
 		displayNewText(buffer.toString());
 	}
 
+	/**
+	 * @return whether the character is handled by {@link #processNewText()} in
+	 * {@link #ANSISTATE_INITIAL} rather than displayed as text.
+	 */
+	private static boolean isControlCharacter(char character) {
+		return character == '\u0000' || character == '\b' || character == '\t' || character == '\u0007'
+				|| character == '\n' || character == '\r' || character == '\u001b';
+	}
+
 	/**
 	 * This method displays a subset of the newly-received text in the Terminal
 	 * view, wrapping text at the right edge of the screen and overwriting text
@@ -1351,13 +1363,26 @@ public class VT100Emulator implements ControlListener {
 	 */
 	private int fNextChar = -1;
 
+	/**
+	 * Size of {@link #fReadBuffer}.
+	 */
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	/**
+	 * Characters read from {@link #fReader} in bulk. The characters between
+	 * {@link #fReadPos} and {@link #fReadEnd} have not been processed yet.
+	 */
+	private final char[] fReadBuffer = new char[READ_BUFFER_SIZE];
+	private int fReadPos;
+	private int fReadEnd;
+
 	private char getNextChar() throws IOException {
 		int c = -1;
 		if (fNextChar != -1) {
 			c = fNextChar;
 			fNextChar = -1;
-		} else {
-			c = fReader.read();
+		} else if (fReadPos < fReadEnd || fillReadBuffer()) {
+			c = fReadBuffer[fReadPos++];
 		}
 		// TODO: better end of file handling
 		if (c == -1)
@@ -1365,8 +1390,20 @@ public class VT100Emulator implements ControlListener {
 		return (char) c;
 	}
 
+	/**
+	 * Reads as many characters as are available into the empty read buffer,
+	 * blocking until at least one character is available.
+	 * @return <code>false</code> at end of file
+	 */
+	private boolean fillReadBuffer() throws IOException {
+		int n = fReader.read(fReadBuffer, 0, fReadBuffer.length);
+		fReadPos = 0;
+		fReadEnd = Math.max(n, 0);
+		return n > 0;
+	}
+
 	private boolean hasNextChar() throws IOException {
-		if (fNextChar >= 0)
+		if (fNextChar >= 0 || fReadPos < fReadEnd)
 			return true;
 		return fReader.ready();
 	}
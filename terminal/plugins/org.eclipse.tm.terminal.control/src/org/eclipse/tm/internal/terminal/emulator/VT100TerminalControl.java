@@ -58,6 +58,7 @@ import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
@@ -180,6 +181,8 @@ public class VT100TerminalControl implements ITerminalControlForText, ITerminalC
 	 * Is protected by synchronize on this
 	 */
 	volatile private Job fJob;
+	/** Time in ms to wait for the reader job when disconnecting */
+	private static final long JOB_JOIN_TIMEOUT = 2000;
 
 	private PollingTextCanvasModel fPollingTextCanvasModel;
 
@@ -205,6 +208,7 @@ public class VT100TerminalControl implements ITerminalControlForText, ITerminalC
 		fTerminalModel = TerminalTextDataFactory.makeTerminalTextData();
 		fTerminalModel.setMaxHeight(1000);
 		fInputStream = new PipedInputStream(8 * 1024);
+		fInputStream.setDataAvailableListener(() -> scheduleReaderJob());
 		fTerminalText = new VT100Emulator(fTerminalModel, this, null);
 		try {
 			// Use Default Encoding as start, until setEncoding() is called
@@ -424,14 +428,18 @@ public class VT100TerminalControl implements ITerminalControlForText, ITerminalC
 		}
 		if (job != null) {
 			job.cancel();
-			// Join job to avoid leaving job running after workbench shutdown (333613).
-			// Interrupt to be fast enough; cannot close fInputStream since it is re-used (bug 348700).
-			Thread t = job.getThread();
-			if (t != null)
-				t.interrupt();
-			try {
-				job.join();
-			} catch (InterruptedException e) {
+			// The job blocks reading fInputStream when only part of a multibyte
+			// character has arrived. Wake it up rather than interrupting its thread,
+			// which belongs to the shared job pool.
+			fInputStream.wakeUpReader();
+			// Join job to avoid leaving job running after workbench shutdown (333613),
+			// but don't hang the UI if the job only started to block after the wake up.
+			// The job may disconnect itself, on an error while processing text.
+			if (job.getThread() != Thread.currentThread()) {
+				try {
+					job.join(JOB_JOIN_TIMEOUT, null);
+				} catch (InterruptedException | OperationCanceledException e) {
+				}
 			}
 		}
 		fPollingTextCanvasModel.stopPolling();
@@ -465,44 +473,28 @@ public class VT100TerminalControl implements ITerminalControlForText, ITerminalC
 
 	private synchronized void startReaderJob() {
 		if (fJob == null) {
+			// The job runs only while there is data to process. It is scheduled
+			// again by the input stream when new data arrives, so that an idle
+			// terminal does not occupy a thread.
 			fJob = new Job("Terminal data reader") { //$NON-NLS-1$
 				@Override
 				protected IStatus run(IProgressMonitor monitor) {
-					IStatus status = Status.OK_STATUS;
-					try {
-						while (true) {
-							while (fInputStream.available() == 0 && !monitor.isCanceled()) {
-								try {
-									fInputStream.waitForAvailable(500);
-								} catch (InterruptedException e) {
-									Thread.currentThread().interrupt();
-								}
-							}
-							if (monitor.isCanceled()) {
-								//Do not disconnect terminal here because another reader job may already be running
-								status = Status.CANCEL_STATUS;
-								break;
-							}
-							try {
-								// TODO: should block when no text is available!
-								fTerminalText.processText();
-							} catch (Exception e) {
-								disconnectTerminal();
-								status = new Status(IStatus.ERROR, TerminalPlugin.PLUGIN_ID, e.getLocalizedMessage(),
-										e);
-								break;
-							}
+					// the terminal may have been disconnected since the job was scheduled
+					if (fJob != this)
+						return Status.CANCEL_STATUS;
+					while (fInputStream.available() > 0) {
+						if (monitor.isCanceled()) {
+							//Do not disconnect terminal here because another reader job may already be running
+							return Status.CANCEL_STATUS;
 						}
-					} finally {
-						// clean the job: start a new one when the connection gets restarted
-						// Bug 208145: make sure we do not clean an other job that's already started (since it would become a Zombie)
-						synchronized (VT100TerminalControl.this) {
-							if (fJob == this) {
-								fJob = null;
-							}
+						try {
+							fTerminalText.processText();
+						} catch (Exception e) {
+							disconnectTerminal();
+							return new Status(IStatus.ERROR, TerminalPlugin.PLUGIN_ID, e.getLocalizedMessage(), e);
 						}
 					}
-					return status;
+					return Status.OK_STATUS;
 				}
 
 			};
@@ -511,6 +503,15 @@ public class VT100TerminalControl implements ITerminalControlForText, ITerminalC
 		}
 	}
 
+	/**
+	 * Runs the reader job to process data that has become available.
+	 */
+	private void scheduleReaderJob() {
+		Job job = fJob;
+		if (job != null)
+			job.schedule();
+	}
+
 	private void showErrorMessage(String message) {
 		String strTitle = TerminalMessages.TerminalError;
 		// [168197] Replace JFace MessagDialog by SWT MessageBox
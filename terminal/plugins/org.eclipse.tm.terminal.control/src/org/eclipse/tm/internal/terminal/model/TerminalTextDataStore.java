@@ -13,6 +13,7 @@ package org.eclipse.tm.internal.terminal.model;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
@@ -27,7 +28,14 @@ import org.eclipse.tm.terminal.model.Style;
  */
 public class TerminalTextDataStore implements ITerminalTextData {
 	private char[][] fChars;
+	/**
+	 * The styles of the lines which have more than one style, <code>null</code>
+	 * for the lines where all the characters have the style in
+	 * {@link #fLineStyle}. Most lines have a single style, which saves a
+	 * reference per character for them.
+	 */
 	private Style[][] fStyle;
+	private Style[] fLineStyle;
 	private int fWidth;
 	private int fHeight;
 	private int fMaxHeight;
@@ -38,6 +46,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 	public TerminalTextDataStore() {
 		fChars = new char[0][];
 		fStyle = new Style[0][];
+		fLineStyle = new Style[0];
 		fWidth = 0;
 	}
 
@@ -70,6 +79,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 			if (fMaxHeight > 0 && h > fMaxHeight)
 				h = fMaxHeight;
 			fStyle = (Style[][]) resizeArray(fStyle, height);
+			fLineStyle = (Style[]) resizeArray(fLineStyle, height);
 			fChars = (char[][]) resizeArray(fChars, height);
 		}
 		// clean the new lines
@@ -105,30 +115,29 @@ public class TerminalTextDataStore implements ITerminalTextData {
 
 	@Override
 	public LineSegment[] getLineSegments(int line, int column, int len) {
-		// get the styles and chars for this line
+		// get the styles and chars for this line, a line with a single style
+		// has it for all its chars without an array of styles
 		Style[] styles = fStyle[line];
+		Style lineStyle = fLineStyle[line];
 		char[] chars = fChars[line];
+		int styledLength = styles != null ? styles.length : chars != null ? chars.length : 0;
 		int col = column;
 		int n = column + len;
 
 		// expand the line if needed....
-		if (styles == null)
-			styles = new Style[n];
-		else if (styles.length < n)
-			styles = (Style[]) resizeArray(styles, n);
-
 		if (chars == null)
 			chars = new char[n];
 		else if (chars.length < n)
 			chars = (char[]) resizeArray(chars, n);
 
 		// and create the line segments
-		Style style = styles[column];
+		Style style = getStyle(styles, lineStyle, styledLength, column);
 		List<LineSegment> segments = new ArrayList<>();
 		for (int i = column; i < n; i++) {
-			if (styles[i] != style) {
+			Style current = getStyle(styles, lineStyle, styledLength, i);
+			if (current != style) {
 				segments.add(new LineSegment(col, new String(chars, col, i - col), style));
-				style = styles[i];
+				style = current;
 				col = i;
 			}
 		}
@@ -138,6 +147,12 @@ public class TerminalTextDataStore implements ITerminalTextData {
 		return segments.toArray(new LineSegment[segments.size()]);
 	}
 
+	private static Style getStyle(Style[] styles, Style lineStyle, int styledLength, int column) {
+		if (column >= styledLength)
+			return null;
+		return styles != null ? styles[column] : lineStyle;
+	}
+
 	@Override
 	public char getChar(int line, int column) {
 		assert column < fWidth || throwRuntimeException();
@@ -149,7 +164,12 @@ public class TerminalTextDataStore implements ITerminalTextData {
 	@Override
 	public Style getStyle(int line, int column) {
 		assert column < fWidth || throwRuntimeException();
-		if (fStyle[line] == null || column >= fStyle[line].length)
+		if (fStyle[line] == null) {
+			if (fChars[line] == null || column >= fChars[line].length)
+				return null;
+			return fLineStyle[line];
+		}
+		if (column >= fStyle[line].length)
 			return null;
 		return fStyle[line][column];
 	}
@@ -162,18 +182,64 @@ public class TerminalTextDataStore implements ITerminalTextData {
 		} else if (fChars[iLine].length < length) {
 			fChars[iLine] = (char[]) resizeArray(fChars[iLine], length);
 		}
-		if (fStyle[iLine] == null) {
-			fStyle[iLine] = new Style[length];
-		} else if (fStyle[iLine].length < length) {
+		if (fStyle[iLine] != null && fStyle[iLine].length < length) {
 			fStyle[iLine] = (Style[]) resizeArray(fStyle[iLine], length);
 		}
 	}
 
+	/**
+	 * Prepares the line for writing characters with the given style from the
+	 * given column: the line keeps a single style if it is the only style of
+	 * the line after writing, otherwise a style per character is allocated.
+	 */
+	private void prepareStyles(int line, int column, Style style) {
+		if (fStyle[line] != null)
+			return;
+		int length = fChars[line] == null ? 0 : fChars[line].length;
+		// The characters added between the end of the line and the column have no style
+		boolean single;
+		if (length == 0)
+			single = column == 0 || style == null;
+		else
+			single = style == fLineStyle[line] && (column <= length || style == null);
+		if (single) {
+			fLineStyle[line] = style;
+		} else {
+			Style[] styles = new Style[length];
+			Arrays.fill(styles, fLineStyle[line]);
+			fStyle[line] = styles;
+			fLineStyle[line] = null;
+		}
+	}
+
+	/**
+	 * Sets the styles of the line, keeping a single style if all the
+	 * characters have the same style.
+	 */
+	private void setStyles(int line, Style[] styles) {
+		char[] chars = fChars[line];
+		if (styles != null && chars != null && styles.length == chars.length) {
+			Style style = styles.length > 0 ? styles[0] : null;
+			int i = 1;
+			while (i < styles.length && styles[i] == style)
+				i++;
+			if (i >= styles.length) {
+				fStyle[line] = null;
+				fLineStyle[line] = style;
+				return;
+			}
+		}
+		fStyle[line] = styles;
+		fLineStyle[line] = null;
+	}
+
 	@Override
 	public void setChar(int line, int column, char c, Style style) {
+		prepareStyles(line, column, style);
 		ensureLineLength(line, column + 1);
 		fChars[line][column] = c;
-		fStyle[line][column] = style;
+		if (fStyle[line] != null)
+			fStyle[line][column] = style;
 	}
 
 	@Override
@@ -183,11 +249,11 @@ public class TerminalTextDataStore implements ITerminalTextData {
 
 	@Override
 	public void setChars(int line, int column, char[] chars, int start, int len, Style style) {
+		prepareStyles(line, column, style);
 		ensureLineLength(line, column + len);
-		for (int i = 0; i < len; i++) {
-			fChars[line][column + i] = chars[i + start];
-			fStyle[line][column + i] = style;
-		}
+		System.arraycopy(chars, start, fChars[line], column, len);
+		if (fStyle[line] != null)
+			Arrays.fill(fStyle[line], column, column + len, style);
 	}
 
 	@Override
@@ -199,6 +265,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 			for (int i = startLine; i < startLine + size + shift; i++) {
 				fChars[i] = fChars[i - shift];
 				fStyle[i] = fStyle[i - shift];
+				fLineStyle[i] = fLineStyle[i - shift];
 				fWrappedLines.set(i, fWrappedLines.get(i - shift));
 			}
 			// then clean the opened lines
@@ -208,6 +275,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 			for (int i = startLine + size - 1; i >= startLine && i - shift >= 0; i--) {
 				fChars[i] = fChars[i - shift];
 				fStyle[i] = fStyle[i - shift];
+				fLineStyle[i] = fLineStyle[i - shift];
 				fWrappedLines.set(i, fWrappedLines.get(i - shift));
 			}
 			cleanLines(startLine, Math.min(shift, getHeight() - startLine));
@@ -263,6 +331,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 		if (getHeight() != n) {
 			fChars = new char[n][];
 			fStyle = new Style[n][];
+			fLineStyle = new Style[n];
 		}
 		for (int i = 0; i < n; i++) {
 			copyLine(source, i, i);
@@ -282,7 +351,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 	@Override
 	public void copyLine(ITerminalTextData source, int sourceLine, int destLine) {
 		fChars[destLine] = source.getChars(sourceLine);
-		fStyle[destLine] = source.getStyles(sourceLine);
+		setStyles(destLine, source.getStyles(sourceLine));
 		fWrappedLines.set(destLine, source.isWrappedLine(sourceLine));
 	}
 
@@ -295,14 +364,19 @@ public class TerminalTextDataStore implements ITerminalTextData {
 
 	@Override
 	public Style[] getStyles(int line) {
-		if (fStyle[line] == null)
-			return null;
+		if (fStyle[line] == null) {
+			if (fChars[line] == null)
+				return null;
+			Style[] styles = new Style[fChars[line].length];
+			Arrays.fill(styles, fLineStyle[line]);
+			return styles;
+		}
 		return fStyle[line].clone();
 	}
 
 	public void setLine(int line, char[] chars, Style[] styles) {
 		fChars[line] = chars.clone();
-		fStyle[line] = styles.clone();
+		setStyles(line, styles.clone());
 		fWrappedLines.clear(line);
 	}
 
@@ -320,6 +394,7 @@ public class TerminalTextDataStore implements ITerminalTextData {
 	public void cleanLine(int line) {
 		fChars[line] = null;
 		fStyle[line] = null;
+		fLineStyle[line] = null;
 		fWrappedLines.clear(line);
 	}
 
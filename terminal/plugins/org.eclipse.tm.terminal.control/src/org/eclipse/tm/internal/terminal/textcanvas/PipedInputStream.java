@@ -62,6 +62,8 @@ public class PipedInputStream extends InputStream {
 		protected int fTakePos = 0;
 		protected int fUsedSlots = 0; // the count
 		private boolean fClosed;
+		private int fWaitingReaders;
+		private boolean fWakeUp;
 
 		public BoundedByteBuffer(int capacity) throws IllegalArgumentException {
 			// make sure we don't deadlock on too small capacity
@@ -81,11 +83,12 @@ public class PipedInputStream extends InputStream {
 		/**
 		 * Writes a single byte to the buffer. Blocks if the buffer is full.
 		 * @param b byte to write to the buffer
+		 * @return whether the buffer was empty
 		 * @throws InterruptedException when the thread is interrupted while waiting
 		 *     for the buffer to become ready
 		 * Must be called with a lock on this!
 		 */
-		public void write(byte b) throws InterruptedException {
+		public boolean write(byte b) throws InterruptedException {
 			while (fUsedSlots == fBuffer.length)
 				// wait until not full
 				wait();
@@ -93,15 +96,20 @@ public class PipedInputStream extends InputStream {
 			fBuffer[fPutPos] = b;
 			fPutPos = (fPutPos + 1) % fBuffer.length; // cyclically increment
 
-			if (fUsedSlots++ == 0) // signal if was empty
+			boolean wasEmpty = fUsedSlots++ == 0;
+			if (wasEmpty) // signal if was empty
 				notifyAll();
+			return wasEmpty;
 		}
 
 		public int getFreeSlots() {
 			return fBuffer.length - fUsedSlots;
 		}
 
-		public void write(byte[] b, int off, int len) throws InterruptedException {
+		/**
+		 * @return whether the buffer was empty
+		 */
+		public boolean write(byte[] b, int off, int len) throws InterruptedException {
 			assert len <= getFreeSlots();
 			while (fUsedSlots == fBuffer.length)
 				// wait until not full
@@ -115,6 +123,7 @@ public class PipedInputStream extends InputStream {
 			fUsedSlots += len;
 			if (wasEmpty) // signal if was empty
 				notifyAll();
+			return wasEmpty;
 		}
 
 		/**
@@ -128,9 +137,19 @@ public class PipedInputStream extends InputStream {
 			while (fUsedSlots == 0) {
 				if (fClosed)
 					return -1;
+				if (fWakeUp) {
+					fWakeUp = false;
+					return -1;
+				}
 				// wait until not empty
-				wait();
+				fWaitingReaders++;
+				try {
+					wait();
+				} finally {
+					fWaitingReaders--;
+				}
 			}
+			fWakeUp = false;
 			byte b = fBuffer[fTakePos];
 			fTakePos = (fTakePos + 1) % fBuffer.length;
 
@@ -165,6 +184,13 @@ public class PipedInputStream extends InputStream {
 			notifyAll();
 		}
 
+		public void wakeUp() {
+			if (fWaitingReaders > 0) {
+				fWakeUp = true;
+				notifyAll();
+			}
+		}
+
 		public boolean isClosed() {
 			return fClosed;
 		}
@@ -180,24 +206,28 @@ public class PipedInputStream extends InputStream {
 		@Override
 		public void write(byte[] b, int off, int len) throws IOException {
 			try {
-				synchronized (fQueue) {
-					if (fQueue.isClosed())
-						throw new IOException("Stream is closed!"); //$NON-NLS-1$
-					int written = 0;
-					while (written < len) {
+				int written = 0;
+				while (written < len) {
+					boolean wasEmpty;
+					synchronized (fQueue) {
+						if (fQueue.isClosed())
+							throw new IOException("Stream is closed!"); //$NON-NLS-1$
 						if (fQueue.getFreeSlots() == 0) {
 							// if no slots available, write one byte and block
 							// until free slots are available
-							fQueue.write(b[off + written]);
+							wasEmpty = fQueue.write(b[off + written]);
 							written++;
 						} else {
 							// if slots are available, write as much as
 							// we can in one junk
 							int n = Math.min(fQueue.getFreeSlots(), len - written);
-							fQueue.write(b, off + written, n);
+							wasEmpty = fQueue.write(b, off + written, n);
 							written += n;
 						}
 					}
+					// notify outside of the lock, before blocking on a full buffer
+					if (wasEmpty)
+						fireDataAvailable();
 				}
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
@@ -207,11 +237,14 @@ public class PipedInputStream extends InputStream {
 		@Override
 		public void write(int b) throws IOException {
 			try {
+				boolean wasEmpty;
 				synchronized (fQueue) {
 					if (fQueue.isClosed())
 						throw new IOException("Stream is closed!"); //$NON-NLS-1$
-					fQueue.write((byte) b);
+					wasEmpty = fQueue.write((byte) b);
 				}
+				if (wasEmpty)
+					fireDataAvailable();
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 			}
@@ -225,6 +258,31 @@ public class PipedInputStream extends InputStream {
 		}
 	}
 
+	/**
+	 * Notified when data becomes available for reading.
+	 */
+	private volatile Runnable fDataAvailableListener;
+
+	private void fireDataAvailable() {
+		Runnable listener = fDataAvailableListener;
+		if (listener != null)
+			listener.run();
+	}
+
+	/**
+	 * Sets a listener that is run whenever data becomes available in the
+	 * empty buffer. This allows a reader to process the data when it arrives,
+	 * rather than polling or blocking a thread while the stream is idle.
+	 * <p>
+	 * The listener is run by the writing thread after it has released the lock
+	 * on the buffer. It should not block, as the writer waits for it.
+	 *
+	 * @param listener the listener, or <code>null</code>
+	 */
+	public void setDataAvailableListener(Runnable listener) {
+		fDataAvailableListener = listener;
+	}
+
 	/**
 	 * @param bufferSize the size of the buffer of the output stream
 	 */
@@ -292,6 +350,17 @@ public class PipedInputStream extends InputStream {
 		}
 	}
 
+	/**
+	 * Makes a read that is blocked waiting for data return as if at the end of
+	 * the stream, without closing the stream. Data written afterwards can be
+	 * read as before.
+	 */
+	public void wakeUpReader() {
+		synchronized (fQueue) {
+			fQueue.wakeUp();
+		}
+	}
+
 	@Override
 	public int read(byte[] cbuf, int off, int len) throws IOException {
 		int n = 0;
@@ -84,6 +84,13 @@ public class TextCanvas extends GridCanvas {
 	private int fMinLines = 4;
 	private boolean fCursorEnabled;
 	private boolean fResizing;
+	/**
+	 * The cells changed since the last repaint, or <code>null</code>. Changes
+	 * reported by the model are merged here and painted at most once per turn
+	 * of the event loop, so that painting is bounded by the visible area rather
+	 * than by the number of changes.
+	 */
+	private Rectangle fDirtyCells;
 
 	/**
 	 * Create a new CellCanvas with the given SWT style bits.
@@ -100,7 +107,7 @@ public class TextCanvas extends GridCanvas {
 			public void rangeChanged(int col, int line, int width, int height) {
 				if (isDisposed())
 					return;
-				repaintRange(col, line, width, height);
+				addDirtyRange(col, line, width, height);
 			}
 
 			@Override
@@ -117,7 +124,10 @@ public class TextCanvas extends GridCanvas {
 
 				// scroll to end (unless scroll lock is active)
 				if (!fResizing) {
-					calculateGrid();
+					// laying out the parent is expensive, and only needed
+					// when the number of lines or columns has changed
+					if (hasGridChanged())
+						calculateGrid();
 					scrollToEnd();
 				}
 			}
@@ -360,7 +370,37 @@ public class TextCanvas extends GridCanvas {
 	protected void repaintRange(int col, int line, int width, int height) {
 		Point origin = cellToOriginOnScreen(col, line);
 		Rectangle r = new Rectangle(origin.x, origin.y, width * getCellWidth(), height * getCellHeight());
-		repaint(r);
+		// only the visible part of the range needs to be painted
+		r = r.intersection(getClientArea());
+		if (!r.isEmpty())
+			repaint(r);
+	}
+
+	/**
+	 * Adds the range to the cells to repaint, and schedules the repaint
+	 * if none is pending.
+	 */
+	private void addDirtyRange(int col, int line, int width, int height) {
+		Rectangle range = new Rectangle(col, line, width, height);
+		if (fDirtyCells == null) {
+			fDirtyCells = range;
+			getDisplay().asyncExec(() -> repaintDirtyRange());
+		} else {
+			fDirtyCells = fDirtyCells.union(range);
+		}
+	}
+
+	private void repaintDirtyRange() {
+		Rectangle dirty = fDirtyCells;
+		fDirtyCells = null;
+		if (dirty != null && !isDisposed())
+			repaintRange(dirty.x, dirty.y, dirty.width, dirty.height);
+	}
+
+	private boolean hasGridChanged() {
+		Rectangle virtualBounds = getVirtualBounds();
+		return virtualBounds.width != getCols() * getCellWidth()
+				|| virtualBounds.height != getRows() * getCellHeight();
 	}
 
 	@Override
@@ -61,8 +61,8 @@ public class TextLineRenderer implements ILinelRenderer {
 				setupGC(gc, style);
 				String text = segment.getText();
 				drawText(gc, x, y, colFirst, segment.getColumn(), text);
-				drawCursor(model, gc, line, x, y, colFirst);
 			}
+			drawCursor(model, gc, line, x, y, colFirst);
 			if (fModel.hasLineSelection(line)) {
 				gc.setForeground(Display.getCurrent().getSystemColor(SWT.COLOR_LIST_SELECTION_TEXT));
 				gc.setBackground(Display.getCurrent().getSystemColor(SWT.COLOR_LIST_SELECTION));
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.tm.internal.terminal.emulator;
+
+import junit.framework.TestCase;
+
+public class VT100EmulatorPerformanceTest extends TestCase {
+
+	private String makeText(boolean escapes) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; text.length() < 4000000; i++) {
+			if (escapes)
+				text.append("\u001b[32m");
+			text.append("gcc -O2 -c -o build/obj/file").append(i).append(".o src/file").append(i).append(".c");
+			if (escapes)
+				text.append("\u001b[0m");
+			text.append("\r\n");
+		}
+		return text.toString();
+	}
+
+	private void measure(String label, String text) {
+		long t0 = System.currentTimeMillis();
+		VT100EmulatorTest.process(text, 24, 80);
+		long t = Math.max(System.currentTimeMillis() - t0, 1);
+		System.out.println(label + " " + (text.length() * 1000L) / t + " chars/sec");
+	}
+
+	public void testPlainText() {
+		measure("plain", makeText(false));
+	}
+
+	public void testColoredText() {
+		measure("colored", makeText(true));
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.tm.internal.terminal.emulator;
+
+import java.io.CharArrayReader;
+import java.io.OutputStream;
+
+import org.eclipse.tm.internal.terminal.control.impl.ITerminalControlForText;
+import org.eclipse.tm.internal.terminal.model.TerminalTextDataStore;
+import org.eclipse.tm.internal.terminal.provisional.api.ITerminalConnector;
+import org.eclipse.tm.internal.terminal.provisional.api.TerminalState;
+import org.eclipse.tm.terminal.model.ITerminalTextData;
+
+import junit.framework.TestCase;
+
+public class VT100EmulatorTest extends TestCase {
+
+	static class TerminalControlStub implements ITerminalControlForText {
+		@Override
+		public TerminalState getState() {
+			return TerminalState.CONNECTED;
+		}
+
+		@Override
+		public void setState(TerminalState state) {
+		}
+
+		@Override
+		public void setTerminalTitle(String title) {
+		}
+
+		@Override
+		public ITerminalConnector getTerminalConnector() {
+			return null;
+		}
+
+		@Override
+		public OutputStream getOutputStream() {
+			return null;
+		}
+
+		@Override
+		public void enableApplicationCursorKeys(boolean enable) {
+		}
+	}
+
+	/**
+	 * Feeds the text to a new emulator of the given dimensions.
+	 */
+	static ITerminalTextData process(String text, int lines, int columns) {
+		ITerminalTextData term = new TerminalTextDataStore();
+		VT100Emulator emulator = new VT100Emulator(term, new TerminalControlStub(),
+				new CharArrayReader(text.toCharArray()));
+		emulator.setDimensions(lines, columns);
+		emulator.processText();
+		return term;
+	}
+
+	static String getLine(ITerminalTextData term, int line) {
+		char[] chars = term.getChars(line);
+		return chars == null ? "" : new String(chars).replace('\000', ' ').trim();
+	}
+
+	public void testSimpleText() {
+		ITerminalTextData term = process("abc\r\ndef\tg", 3, 20);
+		assertEquals("abc", getLine(term, 0));
+		assertEquals("def     g", getLine(term, 1));
+		assertEquals("", getLine(term, 2));
+	}
+
+	public void testEscapeSequenceBetweenText() {
+		ITerminalTextData term = process("abcd\u001b[2Dx\u001b[Cy", 2, 10);
+		assertEquals("abxdy", getLine(term, 0));
+	}
+
+	public void testTextLongerThanReadBuffer() {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			line.append((char) ('0' + i % 10));
+		}
+		ITerminalTextData term = process(line + "\r\nxy\u001b[2Dz", 2, line.length() + 1);
+		assertEquals(line.toString(), getLine(term, 0));
+		assertEquals("zy", getLine(term, 1));
+	}
+
+	public void testControlCharacterAtReadBufferBoundary() {
+		StringBuilder text = new StringBuilder();
+		// put a line end and an escape sequence across every possible offset
+		for (int i = 0; i < 2000; i++) {
+			text.append("line").append(i).append("\r\n\u001b[1mbold\u001b[0m\r\n");
+		}
+		ITerminalTextData term = process(text.toString(), 5, 80);
+		assertEquals("line1999", getLine(term, term.getHeight() - 3));
+		assertEquals("bold", getLine(term, term.getHeight() - 2));
+	}
+}
@@ -11,6 +11,8 @@
 package org.eclipse.tm.internal.terminal.model;
 
 import org.eclipse.tm.terminal.model.ITerminalTextData;
+import org.eclipse.tm.terminal.model.Style;
+import org.eclipse.tm.terminal.model.StyleColor;
 
 public class TerminalTextDataStoreTest extends AbstractITerminalTextDataTest {
 	@Override
@@ -18,4 +20,40 @@ public class TerminalTextDataStoreTest extends AbstractITerminalTextDataTest {
 		return new TerminalTextDataStore();
 	}
 
+	public void testLineStyles() {
+		ITerminalTextData term = makeITerminalTextData();
+		Style style = getDefaultStyle();
+		Style red = style.setForground(StyleColor.getStyleColor("red"));
+		term.setDimensions(4, 10);
+		// single style line
+		term.setChars(0, 0, "abc".toCharArray(), style);
+		term.setChars(0, 3, "de".toCharArray(), style);
+		// a gap before characters with a style leaves the gap without style
+		term.setChars(1, 2, "ab".toCharArray(), style);
+		// two styles
+		term.setChars(2, 0, "ab".toCharArray(), style);
+		term.setChar(2, 2, 'c', red);
+		for (int column = 0; column < 5; column++) {
+			assertSame(style, term.getStyle(0, column));
+		}
+		assertNull(term.getStyle(0, 5));
+		assertNull(term.getStyle(1, 0));
+		assertNull(term.getStyle(1, 1));
+		assertSame(style, term.getStyle(1, 2));
+		assertSame(style, term.getStyle(1, 3));
+		assertSame(style, term.getStyle(2, 1));
+		assertSame(red, term.getStyle(2, 2));
+		assertNull(term.getStyle(3, 0));
+		Style[] styles = term.getStyles(0);
+		assertEquals(5, styles.length);
+		assertSame(style, styles[4]);
+		assertNull(term.getStyles(3));
+		// copying keeps the styles
+		ITerminalTextData copy = makeITerminalTextData();
+		copy.copy(term);
+		assertSame(style, copy.getStyle(0, 4));
+		assertNull(copy.getStyle(1, 1));
+		assertSame(red, copy.getStyle(2, 2));
+	}
+
 }
@@ -19,8 +19,10 @@ import java.util.List;
 import java.util.Queue;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.tm.internal.terminal.provisional.api.ITerminalControl;
 import org.eclipse.tm.terminal.view.core.interfaces.constants.ILineSeparatorConstants;
@@ -41,8 +43,9 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 	// Reference to the monitored (output) stream
 	private final OutputStream stream;
 
-	// Reference to the thread writing the stream
-	private volatile Thread thread;
+	// Reference to the job writing the stream. The job only runs while there
+	// is queued data, so that an idle terminal does not occupy a thread.
+	private volatile Job job;
 
 	// Flag to mark the monitor disposed. When disposed,
 	// no further data is written from the monitored stream.
@@ -162,7 +165,7 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 			stream.close();
 		} catch (IOException e) {
 			/* ignored on purpose */ }
-		// And interrupt the thread
+		// And stop the writer job
 		close();
 
 		// Dispose all registered disposable objects
@@ -178,15 +181,22 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 	@Override
 	public void close() {
 		// Not initialized -> return immediately
-		if (thread == null)
+		if (job == null)
 			return;
 
 		// Copy the reference
-		final Thread oldThread = thread;
-		// Unlink the monitor from the thread
-		thread = null;
-		// And interrupt the writer thread
-		oldThread.interrupt();
+		final Job oldJob = job;
+		// Unlink the monitor from the job
+		job = null;
+		// And cancel the writer job. Its thread belongs to the shared job pool
+		// and may already run another job, so it must not be interrupted.
+		// Close the stream instead, to unblock a running write.
+		oldJob.cancel();
+		try {
+			stream.close();
+		} catch (IOException e) {
+			/* ignored on purpose */
+		}
 	}
 
 	/**
@@ -194,71 +204,74 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 	 */
 	public void startMonitoring() {
 		// If already initialized -> return immediately
-		if (thread != null)
+		if (job != null)
 			return;
 
-		// Create a new runnable which is constantly reading from the stream
-		Runnable runnable = () -> writeStream();
+		// Create the writer job, which is scheduled whenever data is queued
+		job = new Job("Terminal Input Stream Monitor") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				writeStream();
+				return Status.OK_STATUS;
+			}
+		};
 
-		// Create the writer thread
-		thread = new Thread(runnable, "Terminal Input Stream Monitor Thread"); //$NON-NLS-1$
+		// Configure the writer job
+		job.setSystem(true);
 
-		// Configure the writer thread
-		thread.setDaemon(true);
+		// Write data queued before the monitor got started
+		scheduleWrite();
+	}
 
-		// Start the processing
-		thread.start();
+	/**
+	 * Schedules the writer job to write the queued data.
+	 */
+	private void scheduleWrite() {
+		Job j = job;
+		if (j != null)
+			j.schedule();
 	}
 
 	/**
 	 * Reads from the queue and writes the read content to the stream.
+	 * Returns when the queue is empty.
 	 */
 	protected void writeStream() {
-		// Read from the queue and write to the stream until disposed
-		outer: while (thread != null && !disposed) {
+		// Read from the queue and write to the stream until the queue is empty or disposed
+		while (job != null && !disposed) {
 			byte[] data;
-			// If the queue is empty, wait until notified
 			synchronized (queue) {
-				while (queue.isEmpty()) {
-					if (disposed)
-						break outer;
-					try {
-						queue.wait();
-					} catch (InterruptedException e) {
-						break outer;
-					}
-				}
-				// Retrieves the queue head (is null if queue is empty (should never happen))
+				// Retrieves the queue head (is null if queue is empty)
 				data = queue.poll();
 			}
-			if (data != null) {
-				try {
-					// Break up writes into max 1000 byte junks to avoid console input buffer overflows on Windows
-					int written = 0;
-					byte[] buf = new byte[1000];
-					while (written < data.length) {
-						int len = Math.min(buf.length, data.length - written);
-						System.arraycopy(data, written, buf, 0, len);
-						// Write the data to the stream
-						stream.write(buf, 0, len);
-						written += len;
-						// Flush the stream immediately
-						stream.flush();
-						// Wait a little between writes to allow input being processed
-						if (written < data.length)
-							Thread.sleep(100);
-					}
-				} catch (IOException e) {
-					// IOException received. If this is happening when already disposed -> ignore
-					if (!disposed) {
-						IStatus status = new Status(IStatus.ERROR, UIPlugin.getUniqueIdentifier(),
-								NLS.bind(Messages.InputStreamMonitor_error_writingToStream, e.getLocalizedMessage()),
-								e);
-						UIPlugin.getDefault().getLog().log(status);
-					}
-				} catch (InterruptedException e) {
-					break;
+			// Nothing more to write -> the job is scheduled again by the next write
+			if (data == null)
+				return;
+			try {
+				// Break up writes into max 1000 byte junks to avoid console input buffer overflows on Windows
+				int written = 0;
+				byte[] buf = new byte[1000];
+				while (written < data.length && job != null) {
+					int len = Math.min(buf.length, data.length - written);
+					System.arraycopy(data, written, buf, 0, len);
+					// Write the data to the stream
+					stream.write(buf, 0, len);
+					written += len;
+					// Flush the stream immediately
+					stream.flush();
+					// Wait a little between writes to allow input being processed
+					if (written < data.length)
+						Thread.sleep(100);
+				}
+			} catch (IOException e) {
+				// IOException received. If this is happening when already closed or disposed -> ignore
+				if (job != null && !disposed) {
+					IStatus status = new Status(IStatus.ERROR, UIPlugin.getUniqueIdentifier(),
+							NLS.bind(Messages.InputStreamMonitor_error_writingToStream, e.getLocalizedMessage()), e);
+					UIPlugin.getDefault().getLog().log(status);
 				}
+			} catch (InterruptedException e) {
+				break;
 			}
 		}
 
@@ -270,8 +283,8 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 	public void write(int b) throws IOException {
 		synchronized (queue) {
 			queue.add(new byte[] { (byte) b });
-			queue.notifyAll();
 		}
+		scheduleWrite();
 	}
 
 	@Override
@@ -311,8 +324,8 @@ public class InputStreamMonitor extends OutputStream implements IDisposable {
 			}
 
 			queue.add(bytes);
-			queue.notifyAll();
 		}
+		scheduleWrite();
 	}
 
 	/**